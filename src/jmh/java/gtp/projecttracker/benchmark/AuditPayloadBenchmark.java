@@ -0,0 +1,85 @@
+package gtp.projecttracker.benchmark;
+
+import gtp.projecttracker.audit.AuditPayloadCodec;
+import gtp.projecttracker.config.AuditProperties;
+import gtp.projecttracker.dto.response.task.TaskResponse;
+import gtp.projecttracker.model.jpa.Task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures the payload of an audited service call as {@code AuditLoggingAspect} does: the
+ * returned DTO is snapshotted to a tree ({@code snapshotTree}) and converted by
+ * {@link AuditPayloadCodec} to the stored form ({@code encodeSnapshot}). {@code legacyJsonString}
+ * is the JSON text the aspect stored before payloads became BSON subdocuments.
+ * <p>
+ * The larger {@code descriptionLength} pushes the payload over the default 4KB compression
+ * threshold, so {@code encodeSnapshot} includes gzip.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class AuditPayloadBenchmark {
+
+    @Param({"200", "8000"})
+    private int descriptionLength;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private AuditPayloadCodec codec;
+    private TaskResponse result;
+    private JsonNode snapshot;
+
+    @Setup
+    public void setUp() {
+        AuditProperties properties = new AuditProperties(10_000, 500, Duration.ofSeconds(1),
+                AuditProperties.OverflowPolicy.SPILL, Duration.ofMillis(50), null, DataSize.ofKilobytes(4));
+        codec = new AuditPayloadCodec(objectMapper, properties);
+
+        LocalDateTime now = LocalDateTime.now();
+        result = new TaskResponse(UUID.randomUUID(), "Benchmark task", "d".repeat(descriptionLength),
+                Task.Status.IN_PROGRESS, Task.Priority.HIGH, LocalDate.now().plusDays(7),
+                UUID.randomUUID(), "Benchmark project", UUID.randomUUID(), "Bench Developer", now, now);
+        snapshot = objectMapper.valueToTree(result);
+    }
+
+    @Benchmark
+    public JsonNode snapshotTree() {
+        return objectMapper.valueToTree(result);
+    }
+
+    @Benchmark
+    public String legacyJsonString() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(result);
+    }
+
+    @Benchmark
+    public Object encodeSnapshot() {
+        return codec.encode(snapshot);
+    }
+}
@@ -0,0 +1,100 @@
+package gtp.projecttracker.benchmark;
+
+import gtp.projecttracker.notification.EmailTemplateRenderer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders {@code task-overdue.html} for a batch of notifications, comparing a fresh
+ * {@link Context} and string result per email (how {@code EmailServiceImpl} rendered before)
+ * with {@link EmailTemplateRenderer} rendering one email at a time and a whole batch at once.
+ * <p>
+ * Scores are emails rendered per second; {@code gc.alloc.rate.norm} from the GC profiler is
+ * bytes allocated per email.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateRenderBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final String TEMPLATE = "task-overdue";
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+    private List<Map<String, Object>> batch;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new EmailTemplateRenderer(templateEngine);
+        renderer.warmUp();
+
+        LocalDate today = LocalDate.now();
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(Map.of(
+                    "assigneeName", "Developer " + i,
+                    "daysOverdue", i % 30 + 1,
+                    "taskTitle", "Task " + i,
+                    "projectName", "Project " + i % 10,
+                    "dueDate", today.minusDays(i % 30 + 1)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void freshContextPerEmail(Blackhole blackhole) {
+        for (Map<String, Object> variables : batch) {
+            Context context = new Context();
+            variables.forEach(context::setVariable);
+            blackhole.consume(templateEngine.process("emails/" + TEMPLATE, context));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void rendererPerEmail(Blackhole blackhole) {
+        for (Map<String, Object> variables : batch) {
+            blackhole.consume(renderer.render(TEMPLATE, variables));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<String> rendererBatch() {
+        return renderer.renderAll(TEMPLATE, batch);
+    }
+}
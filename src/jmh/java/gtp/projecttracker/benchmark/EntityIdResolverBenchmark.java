@@ -0,0 +1,94 @@
+package gtp.projecttracker.benchmark;
+
+import gtp.projecttracker.aspect.EntityIdResolver;
+import gtp.projecttracker.dto.response.task.TaskSummaryResponse;
+import gtp.projecttracker.model.jpa.Task;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cached {@link EntityIdResolver} with the reflective scan the audit aspect
+ * used previously, for both a JPA entity ({@code getId()}) and a record DTO ({@code id()}).
+ * Run with {@code -prof gc} (the profile default) to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class EntityIdResolverBenchmark {
+
+    private Task task;
+    private TaskSummaryResponse summary;
+
+    @Setup
+    public void setUp() {
+        task = new Task();
+        task.setId(UUID.randomUUID());
+        summary = new TaskSummaryResponse(UUID.randomUUID(), "Benchmark", Task.Status.TODO,
+                Task.Priority.MEDIUM, LocalDate.now());
+    }
+
+    @Benchmark
+    public String entityReflectiveScan() {
+        return reflectiveScan(task);
+    }
+
+    @Benchmark
+    public String entityCachedAccessor() {
+        return EntityIdResolver.resolve(task);
+    }
+
+    @Benchmark
+    public String recordReflectiveScan() {
+        return reflectiveScan(summary);
+    }
+
+    @Benchmark
+    public String recordCachedAccessor() {
+        return EntityIdResolver.resolve(summary);
+    }
+
+    /**
+     * The lookup previously performed on every audited call by {@code AuditLoggingAspect}.
+     */
+    private static String reflectiveScan(Object entity) {
+        try {
+            Method[] methods = entity.getClass().getDeclaredMethods();
+            for (Method method : methods) {
+                if (method.getName().equals("getId") && method.getParameterCount() == 0) {
+                    Object id = method.invoke(entity);
+                    return id != null ? id.toString() : "null";
+                }
+            }
+
+            for (Method method : methods) {
+                if (method.getName().toLowerCase().contains("id") &&
+                        method.getParameterCount() == 0 &&
+                        !method.getReturnType().equals(void.class)) {
+                    Object id = method.invoke(entity);
+                    return id != null ? id.toString() : "null";
+                }
+            }
+        } catch (Exception e) {
+            return "unknown";
+        }
+
+        return "unknown";
+    }
+}
@@ -0,0 +1,71 @@
+package gtp.projecttracker.benchmark;
+
+import gtp.projecttracker.model.jpa.User;
+import gtp.projecttracker.security.config.JwtConfig;
+import gtp.projecttracker.security.jwt.JwtProvider;
+import gtp.projecttracker.security.jwt.TokenVersionRegistry;
+import gtp.projecttracker.security.jwt.VerifiedJwt;
+import gtp.projecttracker.security.service.UserDetailsImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues and verifies HS512 tokens with {@link JwtProvider}: token generation runs on every
+ * login, verification on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class JwtProviderBenchmark {
+    private static final String SECRET =
+            "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private JwtProvider jwtProvider;
+    private UserDetailsImpl userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SECRET);
+        jwtConfig.setExpirationMs(TimeUnit.HOURS.toMillis(1));
+
+        jwtProvider = new JwtProvider(jwtConfig, new TokenVersionRegistry());
+        jwtProvider.init();
+
+        User user = new User("Bench Developer", "bench@example.com", "secret", User.Role.ROLE_DEVELOPER);
+        user.setId(UUID.randomUUID());
+        userDetails = new UserDetailsImpl(user);
+        token = jwtProvider.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtProvider.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public VerifiedJwt parseVerifiedToken() {
+        return jwtProvider.parseVerifiedToken(token);
+    }
+}
@@ -0,0 +1,115 @@
+package gtp.projecttracker.benchmark;
+
+import gtp.projecttracker.dto.response.project.ProjectResponse;
+import gtp.projecttracker.dto.response.task.TaskResponse;
+import gtp.projecttracker.dto.response.task.TaskSummaryResponse;
+import gtp.projecttracker.mapper.ProjectMapper;
+import gtp.projecttracker.mapper.TaskMapper;
+import gtp.projecttracker.model.jpa.Project;
+import gtp.projecttracker.model.jpa.Task;
+import gtp.projecttracker.model.jpa.User;
+import gtp.projecttracker.repository.jpa.projection.ProjectTaskSummary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps tasks and projects to the response DTOs returned by every task and project endpoint.
+ * Project mapping is measured both from an entity with loaded tasks (counted in memory) and
+ * from the grouped {@code ProjectTaskSummary} projection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class MapperBenchmark {
+
+    @Param({"20"})
+    private int tasksPerProject;
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private final ProjectMapper projectMapper = new ProjectMapper();
+
+    private Task task;
+    private Project project;
+    private ProjectTaskSummary summary;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        Task.Status[] statuses = Task.Status.values();
+
+        User assignee = new User("Bench Developer", "bench@example.com", "secret", User.Role.ROLE_DEVELOPER);
+        assignee.setId(UUID.randomUUID());
+
+        project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setName("Benchmark project");
+        project.setDescription("Project used by MapperBenchmark");
+        project.setStartDate(LocalDate.now());
+        project.setDeadline(LocalDate.now().plusDays(30));
+        project.setStatus(Project.ProjectStatus.ACTIVE);
+        project.setCreatedAt(now);
+        project.setUpdatedAt(now);
+
+        List<Task> tasks = new ArrayList<>(tasksPerProject);
+        for (int i = 0; i < tasksPerProject; i++) {
+            Task t = new Task();
+            t.setId(UUID.randomUUID());
+            t.setTitle("Task " + i);
+            t.setDescription("Benchmark task " + i);
+            t.setStatus(statuses[i % statuses.length]);
+            t.setPriority(Task.Priority.MEDIUM);
+            t.setDueDate(LocalDate.now().plusDays(i));
+            t.setProject(project);
+            t.setAssignee(assignee);
+            t.setCreatedAt(now);
+            t.setUpdatedAt(now);
+            tasks.add(t);
+        }
+        project.setTasks(tasks);
+        task = tasks.get(0);
+
+        summary = new ProjectTaskSummary(project.getId(), project.getName(), project.getDescription(),
+                project.getStartDate(), project.getDeadline(), project.getStatus(), now, now,
+                tasksPerProject, 4, 4, 3, 3, 3, 3);
+    }
+
+    @Benchmark
+    public TaskResponse taskToResponse() {
+        return taskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public TaskSummaryResponse taskToSummaryResponse() {
+        return taskMapper.toSummaryResponse(task);
+    }
+
+    @Benchmark
+    public ProjectResponse projectToResponseFromEntity() {
+        return projectMapper.toResponse(project);
+    }
+
+    @Benchmark
+    public ProjectResponse projectToResponseFromSummary() {
+        return projectMapper.toResponse(summary);
+    }
+}
@@ -0,0 +1,91 @@
+package gtp.projecttracker.benchmark;
+
+import gtp.projecttracker.benchmark.support.BenchmarkDatabase;
+import gtp.projecttracker.model.jpa.Project;
+import gtp.projecttracker.repository.jpa.ProjectRepository;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches one page of projects with their tasks (GET /api/v1/projects?includeTasks=true),
+ * comparing a paged fetch join, which Hibernate can only paginate in memory (HHH90003004),
+ * with the two-phase ID page + fetch join used by {@code ProjectService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProjectPageBenchmark {
+
+    @Param({"10000"})
+    private int projects;
+
+    @Param({"100"})
+    private int tasksPerProject;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private ProjectRepository repository;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create();
+        database.seed(projects, tasksPerProject);
+        entityManager = database.createEntityManager();
+        repository = database.repository(entityManager, ProjectRepository.class);
+        pageable = PageRequest.of(projects / pageSize / 2, pageSize, Sort.by("name"));
+    }
+
+    @Setup(Level.Invocation)
+    public void clearPersistenceContext() {
+        entityManager.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    public List<Project> inMemoryPagedFetchJoin() {
+        return entityManager.createQuery(
+                        "SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.tasks ORDER BY p.name", Project.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Benchmark
+    public List<Project> twoPhaseFetch() {
+        Page<UUID> ids = repository.findPageOfIds(pageable);
+        return repository.findAllWithTasksByIdIn(ids.getContent());
+    }
+}
@@ -0,0 +1,97 @@
+package gtp.projecttracker.benchmark;
+
+import gtp.projecttracker.benchmark.support.BenchmarkDatabase;
+import gtp.projecttracker.dto.response.project.ProjectResponse;
+import gtp.projecttracker.mapper.ProjectMapper;
+import gtp.projecttracker.model.jpa.Project;
+import gtp.projecttracker.repository.jpa.ProjectRepository;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Lists projects by status with their task counts, comparing entity mapping (which initializes
+ * every project's lazy task collection) with the grouped {@code ProjectTaskSummary} projection.
+ * <p>
+ * Allocation per call is reported by the GC profiler ({@code gc.alloc.rate.norm}); the number
+ * of JDBC statements per call is printed at the end of each trial.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProjectTaskCountBenchmark {
+
+    @Param({"10000"})
+    private int projects;
+
+    @Param({"100"})
+    private int tasksPerProject;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private ProjectRepository repository;
+    private final ProjectMapper mapper = new ProjectMapper();
+    private final Map<String, Long> statementsPerCall = new ConcurrentHashMap<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create();
+        database.seed(projects, tasksPerProject);
+        entityManager = database.createEntityManager();
+        repository = database.repository(entityManager, ProjectRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        statementsPerCall.forEach((name, count) ->
+                System.out.printf("%n%s: %d SQL statements per call%n", name, count));
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    public List<ProjectResponse> entityMapping() {
+        return measure("entityMapping", repository -> repository
+                .findByStatus(Project.ProjectStatus.ACTIVE).stream()
+                .map(mapper::toResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<ProjectResponse> groupedProjection() {
+        return measure("groupedProjection", repository ->
+                mapper.toResponseList(repository.findTaskSummariesByStatus(Project.ProjectStatus.ACTIVE)));
+    }
+
+    private List<ProjectResponse> measure(String name,
+                                          Function<ProjectRepository, List<ProjectResponse>> call) {
+        // Start every call with an empty persistence context so nothing is served from it
+        entityManager.clear();
+        long before = database.statistics().getPrepareStatementCount();
+        List<ProjectResponse> result = call.apply(repository);
+        statementsPerCall.put(name, database.statistics().getPrepareStatementCount() - before);
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package gtp.projecttracker.benchmark;
+
+import gtp.projecttracker.benchmark.support.BenchmarkDatabase;
+import gtp.projecttracker.model.jpa.Project;
+import gtp.projecttracker.model.jpa.Task;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts tasks the way {@code POST /api/v1/tasks} does (one transaction per task) and the way
+ * {@code POST /api/v1/tasks/bulk} does (one transaction, flushed and cleared every batch), with
+ * JDBC batching disabled and enabled. Scores are rows per second.
+ * <p>
+ * H2 runs in process, so the gain from batching here is a lower bound: against PostgreSQL each
+ * saved statement round trip is a network round trip.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskBulkInsertBenchmark {
+    private static final int ROWS = 1_000;
+
+    @Param({"50"})
+    private int batchSize;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private UUID projectId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create();
+        database.seed(1, 0);
+        entityManager = database.createEntityManager();
+        projectId = entityManager.createQuery("SELECT p.id FROM Project p", UUID.class).getSingleResult();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTasks() {
+        entityManager.clear();
+        entityManager.getTransaction().begin();
+        entityManager.createQuery("DELETE FROM Task").executeUpdate();
+        entityManager.getTransaction().commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void transactionPerTask() {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.getTransaction().begin();
+            entityManager.persist(newTask(i));
+            entityManager.getTransaction().commit();
+            entityManager.clear();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleTransactionUnbatched() {
+        insertInOneTransaction(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleTransactionBatched() {
+        insertInOneTransaction(batchSize);
+    }
+
+    private void insertInOneTransaction(int jdbcBatchSize) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(newTask(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+    }
+
+    private Task newTask(int i) {
+        Task task = new Task("Bulk task " + i, "Inserted by TaskBulkInsertBenchmark",
+                Task.Status.TODO, Task.Priority.MEDIUM, LocalDate.now().plusDays(i % 30));
+        task.setProject(entityManager.getReference(Project.class, projectId));
+        return task;
+    }
+}
@@ -0,0 +1,119 @@
+package gtp.projecttracker.benchmark.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file with the checked-in baseline and fails on regressions.
+ * <p>
+ * Results are matched by benchmark name and parameters. A result regresses when its primary
+ * score is worse than the baseline by more than the score tolerance (lower is better for
+ * time-based modes, higher for throughput) and the two 99.9% confidence intervals JMH reports do
+ * not overlap, so run-to-run noise alone cannot fail or mask the check. A result also regresses
+ * when its {@code gc.alloc.rate.norm} grows by more than the allocation tolerance. Benchmarks missing from either file are reported but do not
+ * fail the check, so new benchmarks can land before the baseline is re-recorded.
+ * </p>
+ * <p>
+ * Usage: {@code BaselineCheck <baseline.json> <result.json> <scoreTolerance> <allocTolerance>},
+ * with tolerances as fractions (0.15 = 15%). Exits with status 1 on any regression.
+ * </p>
+ */
+public final class BaselineCheck {
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private BaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.err.println("Usage: BaselineCheck <baseline.json> <result.json> <scoreTolerance> <allocTolerance>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> results = read(Path.of(args[1]));
+        double scoreTolerance = Double.parseDouble(args[2]);
+        double allocTolerance = Double.parseDouble(args[3]);
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode expected = baseline.get(entry.getKey());
+            if (expected == null) {
+                System.out.printf("NEW        %s%n", entry.getKey());
+                continue;
+            }
+            JsonNode actual = entry.getValue();
+            boolean higherIsBetter = "thrpt".equals(actual.path("mode").asText());
+
+            double baseScore = expected.path("primaryMetric").path("score").asDouble();
+            double baseError = scoreError(expected);
+            double score = actual.path("primaryMetric").path("score").asDouble();
+            double error = scoreError(actual);
+            double scoreChange = change(baseScore, score);
+            boolean scoreRegressed = higherIsBetter
+                    ? scoreChange < -scoreTolerance && score + error < baseScore - baseError
+                    : scoreChange > scoreTolerance && score - error > baseScore + baseError;
+
+            boolean allocRegressed = false;
+            String alloc = "";
+            JsonNode baseAlloc = expected.path("secondaryMetrics").path(ALLOC_METRIC).path("score");
+            JsonNode newAlloc = actual.path("secondaryMetrics").path(ALLOC_METRIC).path("score");
+            if (baseAlloc.isNumber() && newAlloc.isNumber()) {
+                double allocChange = change(baseAlloc.asDouble(), newAlloc.asDouble());
+                allocRegressed = allocChange > allocTolerance;
+                alloc = String.format(", alloc %.1f -> %.1f B/op (%+.1f%%)",
+                        baseAlloc.asDouble(), newAlloc.asDouble(), allocChange * 100);
+            }
+
+            boolean regressed = scoreRegressed || allocRegressed;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s: score %.3f +/- %.3f -> %.3f +/- %.3f %s (%+.1f%%)%s%n",
+                    regressed ? "REGRESSED" : "OK", entry.getKey(), baseScore, baseError, score, error,
+                    actual.path("primaryMetric").path("scoreUnit").asText(), scoreChange * 100, alloc);
+        }
+        baseline.keySet().stream()
+                .filter(key -> !results.containsKey(key))
+                .forEach(key -> System.out.printf("MISSING    %s%n", key));
+
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) regressed against %s%n", regressions, args[0]);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            byKey.put(key(result), result);
+        }
+        return byKey;
+    }
+
+    private static String key(JsonNode result) {
+        Map<String, String> params = new TreeMap<>();
+        result.path("params").properties().forEach(param -> params.put(param.getKey(), param.getValue().asText()));
+        String name = result.path("benchmark").asText() + " [" + result.path("mode").asText() + "]";
+        return params.isEmpty() ? name : name + " " + params;
+    }
+
+    /**
+     * Half-width of the result's confidence interval; JMH writes NaN when there are too few
+     * iterations to compute one.
+     */
+    private static double scoreError(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble();
+        return Double.isFinite(error) ? error : 0;
+    }
+
+    private static double change(double baseline, double value) {
+        return baseline == 0 ? 0 : (value - baseline) / baseline;
+    }
+}
@@ -0,0 +1,113 @@
+package gtp.projecttracker.benchmark.support;
+
+import gtp.projecttracker.model.jpa.Project;
+import gtp.projecttracker.model.jpa.Task;
+import gtp.projecttracker.model.jpa.User;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * In-memory H2 database with the application's JPA entities, for benchmarks that need real
+ * Hibernate behaviour (lazy loading, JPQL translation, statement counts) without starting Spring.
+ * <p>
+ * Repositories are created with {@link JpaRepositoryFactory}, so the benchmarked queries are the
+ * exact {@code @Query} definitions the application uses. Statistics are enabled so benchmarks can
+ * report how many JDBC statements an operation issued.
+ * </p>
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    private final SessionFactory sessionFactory;
+
+    private BenchmarkDatabase(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    public static BenchmarkDatabase create() {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Project.class)
+                .addAnnotatedClass(Task.class)
+                .addAnnotatedClass(User.class)
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty("hibernate.connection.url",
+                        "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.generate_statistics", "true")
+                .setProperty("hibernate.jdbc.batch_size", String.valueOf(INSERT_BATCH_SIZE))
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("jakarta.persistence.validation.mode", "none");
+
+        return new BenchmarkDatabase(configuration.buildSessionFactory());
+    }
+
+    /**
+     * Inserts {@code projects} projects with {@code tasksPerProject} tasks each. Project and task
+     * statuses are spread round-robin over their enum values.
+     */
+    public void seed(int projects, int tasksPerProject) {
+        Project.ProjectStatus[] projectStatuses = Project.ProjectStatus.values();
+        Task.Status[] taskStatuses = Task.Status.values();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction tx = session.beginTransaction();
+            for (int p = 0; p < projects; p++) {
+                Project project = new Project();
+                project.setName("Project " + p);
+                project.setDescription("Benchmark project " + p);
+                project.setStartDate(today);
+                project.setDeadline(today.plusDays(30));
+                project.setStatus(projectStatuses[p % projectStatuses.length]);
+                project.setCreatedAt(now);
+                project.setUpdatedAt(now);
+                session.insert(project);
+
+                for (int t = 0; t < tasksPerProject; t++) {
+                    Task task = new Task();
+                    task.setTitle("Task " + p + "-" + t);
+                    task.setStatus(taskStatuses[t % taskStatuses.length]);
+                    task.setPriority(Task.Priority.MEDIUM);
+                    task.setDueDate(today.plusDays(t % 60 - 30));
+                    task.setProject(project);
+                    task.setCreatedAt(now);
+                    task.setUpdatedAt(now);
+                    session.insert(task);
+                }
+            }
+            tx.commit();
+        }
+        sessionFactory.getStatistics().clear();
+    }
+
+    public EntityManager createEntityManager() {
+        return sessionFactory.createEntityManager();
+    }
+
+    public <R> R repository(EntityManager entityManager, Class<R> repositoryType) {
+        return new JpaRepositoryFactory(entityManager).getRepository(repositoryType);
+    }
+
+    public Statistics statistics() {
+        return sessionFactory.getStatistics();
+    }
+
+    @Override
+    public void close() {
+        sessionFactory.close();
+    }
+}
@@ -0,0 +1,119 @@
+package gtp.projecttracker.loadtest;
+
+import gtp.projecttracker.model.jpa.Project;
+import gtp.projecttracker.model.jpa.Task;
+import gtp.projecttracker.model.jpa.User;
+import gtp.projecttracker.repository.jpa.ProjectRepository;
+import gtp.projecttracker.repository.jpa.TaskRepository;
+import gtp.projecttracker.repository.jpa.UserRepository;
+import gtp.projecttracker.workload.WorkloadStatistics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds the configured volume of developers, projects and tasks through the application's own
+ * repositories.
+ * <p>
+ * Tasks are spread round-robin over the developers, statuses and priorities, with due dates from
+ * 30 days in the past to 60 days ahead, so the overdue scan and notification pipeline run during
+ * the test as they would in production. Rows are inserted in chunks of projects, one short
+ * transaction per chunk. All developers share one password hash, as hashing each would dominate
+ * the seeding time.
+ * </p>
+ */
+final class DataSeeder {
+    private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+
+    static final String ADMIN_EMAIL = "loadtest-admin@example.com";
+    static final String ADMIN_PASSWORD = "loadtest-password";
+    private static final int PROJECTS_PER_TRANSACTION = 50;
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transaction;
+    private final WorkloadStatistics workloadStatistics;
+
+    DataSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.projectRepository = context.getBean(ProjectRepository.class);
+        this.taskRepository = context.getBean(TaskRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.workloadStatistics = context.getBean(WorkloadStatistics.class);
+    }
+
+    SeededData seed(LoadTestSettings settings) {
+        long started = System.nanoTime();
+        String passwordHash = passwordEncoder.encode(ADMIN_PASSWORD);
+
+        userRepository.save(new User("Load Test Admin", ADMIN_EMAIL, passwordHash, User.Role.ROLE_ADMIN));
+
+        List<User> developers = new ArrayList<>(settings.seedUsers());
+        for (int i = 0; i < settings.seedUsers(); i++) {
+            developers.add(new User("Developer " + i, "developer" + i + "@example.com", passwordHash,
+                    User.Role.ROLE_DEVELOPER));
+        }
+        developers = userRepository.saveAll(developers);
+
+        List<UUID> projectIds = new ArrayList<>(settings.seedProjects());
+        for (int first = 0; first < settings.seedProjects(); first += PROJECTS_PER_TRANSACTION) {
+            int from = first;
+            int to = Math.min(first + PROJECTS_PER_TRANSACTION, settings.seedProjects());
+            List<User> assignees = developers;
+            transaction.executeWithoutResult(status ->
+                    projectIds.addAll(seedProjects(from, to, settings.tasksPerProject(), assignees)));
+        }
+
+        workloadStatistics.recompute();
+        log.info("Seeded {} developers, {} projects and {} tasks in {} ms",
+                developers.size(), projectIds.size(), (long) projectIds.size() * settings.tasksPerProject(),
+                (System.nanoTime() - started) / 1_000_000);
+
+        return new SeededData(ADMIN_EMAIL, ADMIN_PASSWORD,
+                developers.stream().map(User::getId).toList(), List.copyOf(projectIds));
+    }
+
+    private List<UUID> seedProjects(int from, int to, int tasksPerProject, List<User> assignees) {
+        Task.Status[] statuses = Task.Status.values();
+        Task.Priority[] priorities = Task.Priority.values();
+        LocalDate today = LocalDate.now();
+
+        List<UUID> ids = new ArrayList<>(to - from);
+        List<Task> tasks = new ArrayList<>((to - from) * tasksPerProject);
+        for (int p = from; p < to; p++) {
+            Project project = new Project();
+            project.setName("Load test project " + p);
+            project.setDescription("Seeded for load testing");
+            project.setStartDate(today);
+            project.setDeadline(today.plusDays(90));
+            project = projectRepository.save(project);
+            ids.add(project.getId());
+
+            for (int t = 0; t < tasksPerProject; t++) {
+                int n = p * tasksPerProject + t;
+                Task task = new Task("Task " + p + "-" + t, "Seeded for load testing",
+                        statuses[n % statuses.length], priorities[n % priorities.length],
+                        today.plusDays(n % 90 - 30));
+                task.setProject(project);
+                if (!assignees.isEmpty()) {
+                    task.setAssignee(assignees.get(n % assignees.size()));
+                }
+                tasks.add(task);
+            }
+        }
+        taskRepository.saveAll(tasks);
+        return ids;
+    }
+}
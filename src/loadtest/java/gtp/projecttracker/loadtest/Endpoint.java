@@ -0,0 +1,89 @@
+package gtp.projecttracker.loadtest;
+
+import gtp.projecttracker.dto.request.task.CreateTaskRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The endpoints of the JMeter scenario, requested in this order by every virtual user.
+ * <p>
+ * Paged endpoints request a random one of the first {@value #PAGES} pages, so requests are not
+ * all served from the same cache entries.
+ * </p>
+ */
+enum Endpoint {
+    GET_ALL_TASKS("GET /api/v1/tasks") {
+        @Override
+        HttpRequest.Builder request(URI base, SeededData data, ObjectMapper json) {
+            return HttpRequest.newBuilder(base.resolve("/api/v1/tasks?size=20&page=" + randomPage())).GET();
+        }
+    },
+    CREATE_TASK("POST /api/v1/tasks") {
+        @Override
+        HttpRequest.Builder request(URI base, SeededData data, ObjectMapper json) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            CreateTaskRequest body = new CreateTaskRequest("Load test task", "Created during a load test",
+                    LocalDate.now().plusDays(random.nextInt(1, 60)), pick(data.projectIds()),
+                    pick(data.developerIds()), null, null);
+            try {
+                return HttpRequest.newBuilder(base.resolve("/api/v1/tasks"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    },
+    GET_PROJECTS("GET /api/v1/projects") {
+        @Override
+        HttpRequest.Builder request(URI base, SeededData data, ObjectMapper json) {
+            return HttpRequest.newBuilder(base.resolve("/api/v1/projects?size=20&page=" + randomPage())).GET();
+        }
+    },
+    GET_ALL_USERS("GET /api/v1/users/admin/users") {
+        @Override
+        HttpRequest.Builder request(URI base, SeededData data, ObjectMapper json) {
+            return HttpRequest.newBuilder(base.resolve("/api/v1/users/admin/users?size=20&page=" + randomPage())).GET();
+        }
+    },
+    GET_USER_TASKS("GET /api/v1/users/{id}/tasks") {
+        @Override
+        HttpRequest.Builder request(URI base, SeededData data, ObjectMapper json) {
+            return HttpRequest.newBuilder(base.resolve("/api/v1/users/" + pick(data.developerIds()) + "/tasks")).GET();
+        }
+    };
+
+    private static final int PAGES = 10;
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    /**
+     * Builds the request without authentication; the caller adds the bearer token.
+     */
+    abstract HttpRequest.Builder request(URI base, SeededData data, ObjectMapper json);
+
+    private static int randomPage() {
+        return ThreadLocalRandom.current().nextInt(PAGES);
+    }
+
+    private static UUID pick(List<UUID> ids) {
+        return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
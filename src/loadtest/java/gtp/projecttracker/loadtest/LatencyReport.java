@@ -0,0 +1,188 @@
+package gtp.projecttracker.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts of the measured window of a run.
+ * <p>
+ * Latencies are recorded in microseconds with three significant digits up to one minute;
+ * slower responses are recorded as one minute. {@link #write} produces:
+ * </p>
+ * <ul>
+ *   <li>{@code summary.csv}: samples, errors, throughput and percentiles per endpoint, also
+ *       printed to standard output</li>
+ *   <li>{@code <endpoint>.hgrm}: the full percentile distribution in milliseconds, which the
+ *       HdrHistogram plotter can overlay across runs</li>
+ *   <li>{@code latency.hlog}: the encoded histograms, tagged by endpoint, for
+ *       {@code HistogramLogProcessor}</li>
+ *   <li>{@code run.properties}: the settings the run used and any {@link #note notes}</li>
+ * </ul>
+ */
+final class LatencyReport {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final Map<String, Object> notes = new LinkedHashMap<>();
+    private long startMillis;
+    private long endMillis;
+
+    LatencyReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    void record(Endpoint endpoint, long latencyNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        latencies.get(endpoint).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    void recordError(Endpoint endpoint) {
+        errors.get(endpoint).increment();
+    }
+
+    void measuredWindow(long startMillis, long endMillis) {
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+    }
+
+    /**
+     * Adds a line to {@code run.properties}, such as a metric read from the application.
+     */
+    void note(String key, Object value) {
+        notes.put(key, value);
+    }
+
+    /**
+     * Returns one row per endpoint followed by the {@code TOTAL} row.
+     */
+    List<Row> rows() {
+        double seconds = Math.max(endMillis - startMillis, 1) / 1000.0;
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+
+        List<Row> rows = new ArrayList<>(Endpoint.values().length + 1);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = latencies.get(endpoint);
+            long errorCount = errors.get(endpoint).sum();
+            total.add(histogram);
+            totalErrors += errorCount;
+            rows.add(new Row(endpoint.label(), endpoint.name().toLowerCase(Locale.ROOT), histogram, errorCount, seconds));
+        }
+        rows.add(new Row("TOTAL", "total", total, totalErrors, seconds));
+        return rows;
+    }
+
+    void write(Path directory, LoadTestSettings settings) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream csv = new PrintStream(Files.newOutputStream(directory.resolve("summary.csv")), false,
+                StandardCharsets.UTF_8)) {
+            String header = "endpoint,samples,errors,error_pct,throughput_rps,min_ms,p50_ms,p90_ms,p95_ms,p99_ms,p99.9_ms,max_ms";
+            csv.println(header);
+            System.out.println();
+            System.out.println(header);
+            for (Row row : rows()) {
+                writeDistribution(directory.resolve(row.fileName() + ".hgrm"), row.latency());
+                csv.println(row.toCsv());
+                System.out.println(row.toCsv());
+            }
+        }
+        writeLog(directory.resolve("latency.hlog"));
+        writeSettings(directory.resolve("run.properties"), settings);
+        System.out.println("Reports written to " + directory.toAbsolutePath());
+    }
+
+    private void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private void writeLog(Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startMillis);
+            writer.setBaseTime(startMillis);
+            writer.outputLegend();
+            double endSeconds = (endMillis - startMillis) / 1000.0;
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram histogram = latencies.get(endpoint);
+                histogram.setTag(endpoint.name());
+                writer.outputIntervalHistogram(0, endSeconds, histogram, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private void writeSettings(Path file, LoadTestSettings settings) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            out.println("users=" + settings.users());
+            out.println("ramp-up=" + settings.rampUp());
+            out.println("warmup=" + settings.warmup());
+            out.println("duration=" + settings.duration());
+            out.println("think-time=" + settings.thinkTime());
+            out.println("seed.users=" + settings.seedUsers());
+            out.println("seed.projects=" + settings.seedProjects());
+            out.println("seed.tasks-per-project=" + settings.tasksPerProject());
+            out.println("java.version=" + System.getProperty("java.version"));
+            out.println("available-processors=" + Runtime.getRuntime().availableProcessors());
+            notes.forEach((key, value) -> out.println(key + "=" + value));
+        }
+    }
+
+    /**
+     * Results of one endpoint, or of all endpoints combined.
+     *
+     * @param label Endpoint label as shown in the reports
+     * @param fileName Base name of the endpoint's {@code .hgrm} file
+     * @param latency Latencies in microseconds
+     * @param errors Failed requests (status 400 and above, or no response)
+     * @param seconds Length of the measured window
+     */
+    record Row(String label, String fileName, Histogram latency, long errors, double seconds) {
+
+        long samples() {
+            return latency.getTotalCount() + errors;
+        }
+
+        double throughput() {
+            return samples() / seconds;
+        }
+
+        double percentileMillis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+        }
+
+        String toCsv() {
+            long samples = samples();
+            StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "\"%s\",%d,%d,%.3f,%.2f,%.2f",
+                    label, samples, errors, samples == 0 ? 0.0 : 100.0 * errors / samples,
+                    throughput(), latency.getMinValue() / MICROS_PER_MILLI));
+            for (double percentile : PERCENTILES) {
+                row.append(String.format(Locale.ROOT, ",%.2f", percentileMillis(percentile)));
+            }
+            row.append(String.format(Locale.ROOT, ",%.2f", latency.getMaxValue() / MICROS_PER_MILLI));
+            return row.toString();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package gtp.projecttracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the scenario with one virtual thread per virtual user.
+ * <p>
+ * Like the JMeter thread group it replaces, the model is closed: each virtual user sends the
+ * {@link Endpoint} requests in order, waits for each response and pauses for the think time
+ * before the next one. Users are started evenly over the ramp-up; only requests sent after the
+ * ramp-up and warm-up are recorded. All users share one administrator token.
+ * </p>
+ */
+final class LoadDriver {
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final SeededData data;
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    LoadDriver(URI baseUri, LoadTestSettings settings, SeededData data) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.data = data;
+    }
+
+    LatencyReport run() throws IOException, InterruptedException {
+        String authorization = "Bearer " + login();
+        LatencyReport report = new LatencyReport();
+
+        long start = System.nanoTime();
+        long measureFrom = start + settings.rampUp().toNanos() + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        long startMillis = System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(measureFrom - start);
+
+        log.info("Starting {} virtual users over {}; measuring for {} after a {} warm-up",
+                settings.users(), settings.rampUp(), settings.duration(), settings.warmup());
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.users(); i++) {
+                long startAt = start + settings.rampUp().toNanos() * i / settings.users();
+                users.submit(() -> {
+                    runUser(authorization, startAt, measureFrom, end, report);
+                    return null;
+                });
+            }
+        }
+        report.measuredWindow(startMillis, startMillis + settings.duration().toMillis());
+        return report;
+    }
+
+    private void runUser(String authorization, long startAt, long measureFrom, long end, LatencyReport report)
+            throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(startAt - System.nanoTime());
+        while (System.nanoTime() < end) {
+            for (Endpoint endpoint : Endpoint.values()) {
+                long sent = System.nanoTime();
+                if (sent >= end) {
+                    return;
+                }
+                boolean recorded = sent >= measureFrom;
+                try {
+                    HttpRequest request = endpoint.request(baseUri, data, json)
+                            .header("Authorization", authorization)
+                            .timeout(REQUEST_TIMEOUT)
+                            .build();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (recorded) {
+                        report.record(endpoint, System.nanoTime() - sent);
+                        if (response.statusCode() >= 400) {
+                            report.recordError(endpoint);
+                        }
+                    }
+                } catch (IOException e) {
+                    if (recorded) {
+                        report.recordError(endpoint);
+                    }
+                    log.debug("{} failed: {}", endpoint.label(), e.getMessage());
+                }
+                if (!settings.thinkTime().isZero()) {
+                    TimeUnit.NANOSECONDS.sleep(settings.thinkTime().toNanos());
+                }
+            }
+        }
+    }
+
+    private String login() throws IOException, InterruptedException {
+        byte[] body = json.writeValueAsBytes(Map.of("email", data.adminEmail(), "password", data.adminPassword()));
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login as " + data.adminEmail() + " failed with status "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return json.readTree(response.body()).path("token").asText();
+    }
+}
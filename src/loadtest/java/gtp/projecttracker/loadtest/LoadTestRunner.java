@@ -0,0 +1,115 @@
+package gtp.projecttracker.loadtest;
+
+import gtp.projecttracker.ProjectTracker;
+import gtp.projecttracker.loadtest.LoadTestSettings.ThreadMode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Self-contained replacement for the manual JMeter runs.
+ * <p>
+ * For each configured thread mode, starts the {@link LocalStandIns}, boots the application
+ * against them with the {@code loadtest} profile, seeds the configured data volume, drives the
+ * scenario with {@link LoadDriver} and writes the {@link LatencyReport} to
+ * {@code target/loadtest/<timestamp>/<mode>}. When more than one mode is run, throughput and p99
+ * of each mode are compared side by side in {@code comparison.csv}. Everything runs in one JVM,
+ * so the load generator competes with the application for CPU; compare runs made on the same
+ * machine.
+ * </p>
+ * <p>
+ * Run with: {@code ./mvnw -Ploadtest test-compile exec:exec}; see {@link LoadTestSettings}
+ * for the {@code -Dloadtest.*} options.
+ * </p>
+ */
+public final class LoadTestRunner {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try {
+            Map<ThreadMode, LatencyReport> reports = new EnumMap<>(ThreadMode.class);
+            for (ThreadMode threadMode : settings.threadModes()) {
+                log.info("Running the scenario with {} threads", threadMode.directoryName());
+                LatencyReport report = run(settings, threadMode);
+                report.write(settings.outputDirectory().resolve(threadMode.directoryName()), settings);
+                reports.put(threadMode, report);
+            }
+            if (reports.size() > 1) {
+                writeComparison(settings.outputDirectory().resolve("comparison.csv"), reports);
+            }
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            System.exit(1);
+        }
+        // The embedded servers and the application leave non-daemon threads behind
+        System.exit(0);
+    }
+
+    private static LatencyReport run(LoadTestSettings settings, ThreadMode threadMode) throws Exception {
+        try (LocalStandIns standIns = LocalStandIns.start();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(ProjectTracker.class)
+                     .run(standIns.applicationArguments(threadMode))) {
+            SeededData data = new DataSeeder(context).seed(settings);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LatencyReport report = new LoadDriver(URI.create("http://127.0.0.1:" + port), settings, data).run();
+
+            List<Timer> pinned = List.copyOf(context.getBean(MeterRegistry.class)
+                    .find("threads.virtual.pinned").timers());
+            report.note("thread-mode", threadMode.directoryName());
+            report.note("threads.virtual.pinned.count", pinned.stream().mapToLong(Timer::count).sum());
+            report.note("threads.virtual.pinned.total-ms",
+                    (long) pinned.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum());
+            return report;
+        }
+    }
+
+    private static void writeComparison(Path file, Map<ThreadMode, LatencyReport> reports) throws IOException {
+        StringBuilder header = new StringBuilder("endpoint");
+        reports.keySet().forEach(mode -> header.append(',').append(mode.directoryName()).append("_throughput_rps")
+                .append(',').append(mode.directoryName()).append("_p99_ms"));
+
+        Map<ThreadMode, List<LatencyReport.Row>> rows = new EnumMap<>(ThreadMode.class);
+        reports.forEach((mode, report) -> rows.put(mode, report.rows()));
+        int rowCount = rows.values().iterator().next().size();
+
+        try (PrintStream csv = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            csv.println(header);
+            System.out.println();
+            System.out.println(header);
+            for (int i = 0; i < rowCount; i++) {
+                int index = i;
+                StringBuilder line = new StringBuilder("\"" + rows.values().iterator().next().get(i).label() + "\"");
+                rows.values().forEach(modeRows -> {
+                    LatencyReport.Row row = modeRows.get(index);
+                    line.append(String.format(Locale.ROOT, ",%.2f,%.2f", row.throughput(), row.percentileMillis(99)));
+                });
+                csv.println(line);
+                System.out.println(line);
+            }
+        }
+        System.out.println("Comparison written to " + file.toAbsolutePath());
+    }
+}
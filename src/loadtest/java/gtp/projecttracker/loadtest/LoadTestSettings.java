@@ -0,0 +1,87 @@
+package gtp.projecttracker.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Settings of a load-test run, read from {@code loadtest.*} system properties.
+ * <p>
+ * The defaults reproduce the scenario of the manual JMeter runs: 200 virtual users ramped up
+ * over 60 seconds. Instead of a fixed loop count, each run measures for a fixed duration after a
+ * warm-up, so runs with different settings still produce comparable percentiles.
+ * </p>
+ * <p>
+ * Listing several thread modes ({@code -Dloadtest.threads=platform,virtual}) runs the same
+ * scenario once per mode, each against freshly started stand-ins and seed data.
+ * </p>
+ *
+ * @param users Number of concurrent virtual users
+ * @param rampUp Time over which the virtual users are started
+ * @param warmup Time after the ramp-up during which results are discarded
+ * @param duration Measured time
+ * @param thinkTime Pause between two requests of the same virtual user
+ * @param seedUsers Number of developers to seed
+ * @param seedProjects Number of projects to seed
+ * @param tasksPerProject Number of tasks seeded per project
+ * @param threadModes Thread modes of the application to run the scenario against, in order
+ * @param outputDirectory Directory receiving the reports of this run
+ */
+record LoadTestSettings(
+        int users,
+        Duration rampUp,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        int seedUsers,
+        int seedProjects,
+        int tasksPerProject,
+        List<ThreadMode> threadModes,
+        Path outputDirectory
+) {
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 200),
+                duration("loadtest.ramp-up", "60s"),
+                duration("loadtest.warmup", "30s"),
+                duration("loadtest.duration", "120s"),
+                duration("loadtest.think-time", "0ms"),
+                Integer.getInteger("loadtest.seed.users", 200),
+                Integer.getInteger("loadtest.seed.projects", 1000),
+                Integer.getInteger("loadtest.seed.tasks-per-project", 20),
+                Arrays.stream(System.getProperty("loadtest.threads", "platform").split(","))
+                        .map(mode -> ThreadMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)))
+                        .distinct()
+                        .toList(),
+                Path.of(System.getProperty("loadtest.output", "target/loadtest"))
+                        .resolve(LocalDateTime.now().format(RUN_ID)));
+    }
+
+    /**
+     * Thread mode of the application's request handling, {@code @Async} and scheduled work.
+     */
+    enum ThreadMode {
+        PLATFORM,
+        VIRTUAL;
+
+        String applicationArgument() {
+            return "--spring.threads.virtual.enabled=" + (this == VIRTUAL);
+        }
+
+        String directoryName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
@@ -0,0 +1,76 @@
+package gtp.projecttracker.loadtest;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * In-process replacements for the services the application needs at runtime: a real PostgreSQL
+ * server started from bundled binaries, a MongoDB server downloaded and cached on first use,
+ * and a GreenMail SMTP server that accepts and discards every email.
+ * <p>
+ * No container runtime is required. {@link #applicationArguments()} points the application at
+ * the stand-ins; the arguments take precedence over every properties file.
+ * </p>
+ */
+final class LocalStandIns implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(LocalStandIns.class);
+
+    private final EmbeddedPostgres postgres;
+    private final TransitionWalker.ReachedState<RunningMongodProcess> mongo;
+    private final GreenMail smtp;
+
+    private LocalStandIns(EmbeddedPostgres postgres,
+                          TransitionWalker.ReachedState<RunningMongodProcess> mongo,
+                          GreenMail smtp) {
+        this.postgres = postgres;
+        this.mongo = mongo;
+        this.smtp = smtp;
+    }
+
+    static LocalStandIns start() throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        TransitionWalker.ReachedState<RunningMongodProcess> mongo = Mongod.instance().start(Version.Main.V7_0);
+        GreenMail smtp = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        smtp.start();
+
+        log.info("Stand-ins started: postgres on {}, mongo on {}, smtp on {}",
+                postgres.getPort(), mongo.current().getServerAddress(), smtp.getSmtp().getPort());
+        return new LocalStandIns(postgres, mongo, smtp);
+    }
+
+    /**
+     * Returns the command-line arguments that connect the application to the stand-ins.
+     */
+    String[] applicationArguments(LoadTestSettings.ThreadMode threadMode) {
+        ServerAddress mongoAddress = mongo.current().getServerAddress();
+        return new String[] {
+                threadMode.applicationArgument(),
+                "--spring.profiles.active=loadtest",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.data.mongodb.uri=mongodb://" + mongoAddress.getHost() + ":" + mongoAddress.getPort()
+                        + "/project-tracker",
+                "--spring.mail.host=127.0.0.1",
+                "--spring.mail.port=" + smtp.getSmtp().getPort(),
+                "--server.port=0"
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        smtp.stop();
+        mongo.close();
+        postgres.close();
+    }
+}
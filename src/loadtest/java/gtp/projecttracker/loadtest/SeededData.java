@@ -0,0 +1,20 @@
+package gtp.projecttracker.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Identifiers of the seeded data that the load scenario addresses directly.
+ *
+ * @param adminEmail Email of the administrator the virtual users authenticate as
+ * @param adminPassword Password of that administrator
+ * @param developerIds IDs of the seeded developers, all of them task assignees
+ * @param projectIds IDs of the seeded projects
+ */
+record SeededData(
+        String adminEmail,
+        String adminPassword,
+        List<UUID> developerIds,
+        List<UUID> projectIds
+) {
+}
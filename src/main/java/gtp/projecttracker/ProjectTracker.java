@@ -1,6 +1,9 @@
 package gtp.projecttracker;
 
+import gtp.projecttracker.config.AuditProperties;
+import gtp.projecttracker.config.CacheSpecProperties;
 import gtp.projecttracker.config.EmailProperties;
+import gtp.projecttracker.config.NotificationProperties;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -22,7 +25,8 @@ import static org.springframework.data.web.config.EnableSpringDataWebSupport.Pag
 @EnableMongoAuditing
 @EnableAsync
 @EnableMongoRepositories(basePackages = "gtp.projecttracker.repository.mongodb")
-@EnableConfigurationProperties(EmailProperties.class)
+@EnableConfigurationProperties({EmailProperties.class, AuditProperties.class, NotificationProperties.class,
+        CacheSpecProperties.class})
 @EnableScheduling
 public class ProjectTracker {
     public static void main(String[] args) {
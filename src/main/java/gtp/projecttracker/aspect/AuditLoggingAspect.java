@@ -1,13 +1,15 @@
 package gtp.projecttracker.aspect;
 
+import gtp.projecttracker.audit.AuditEvent;
+import gtp.projecttracker.audit.AuditLogWriter;
 import gtp.projecttracker.model.mongodb.AuditLog;
-import gtp.projecttracker.repository.mongodb.AuditLogRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -17,19 +19,18 @@ import org.aspectj.lang.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Method;
-import java.time.Instant;
-
 /**
  * Aspect responsible for automatic audit logging of CRUD operations in the application.
  * 
  * This aspect intercepts service method calls for create, update, and delete operations
- * and automatically logs them to the audit repository. It captures information such as
+ * and automatically hands them to the asynchronous audit writer. It captures information such as
  * - The type of action (CREATE, UPDATE, DELETE)
  * - The entity type being modified
  * - The entity ID
- * - The full entity data (for create and update operations)
+ * - The full entity data (for create and update operations), captured as a JSON tree
+ *   that the audit writer stores as a BSON subdocument
  * - Timestamp of the operation
+ * - IP address, user agent and endpoint of the request that triggered it
  * 
  * The aspect uses pointcuts to target specific service methods based on naming conventions
  * (methods starting with save*, update*, delete*).
@@ -39,18 +40,18 @@ import java.time.Instant;
 public class AuditLoggingAspect {
     private static final Logger logger = LoggerFactory.getLogger(AuditLoggingAspect.class);
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
     private final ObjectMapper objectMapper;
 
     /**
      * Constructs a new AuditLoggingAspect with the required dependencies.
      *
-     * @param auditLogRepository Repository for storing audit log entries
+     * @param auditLogWriter Asynchronous writer that batches audit log entries into MongoDB
      * @param objectMapper JSON mapper for converting entities to JSON format for storage
      */
     @Autowired
-    public AuditLoggingAspect(AuditLogRepository auditLogRepository, ObjectMapper objectMapper) {
-        this.auditLogRepository = auditLogRepository;
+    public AuditLoggingAspect(AuditLogWriter auditLogWriter, ObjectMapper objectMapper) {
+        this.auditLogWriter = auditLogWriter;
         this.objectMapper = objectMapper;
     }
 
@@ -67,13 +68,12 @@ public class AuditLoggingAspect {
     public void logCreate(JoinPoint joinPoint, Object result) {
         if (result != null) {
             try {
-                AuditLog log = createBaseAuditLog();
-                log.setActionType(AuditLog.ActionType.CREATE);
-                log.setEntityType(result.getClass().getSimpleName());
-                log.setEntityId(getEntityId(result));
-                log.setPayload(convertToJson(result));
-
-                auditLogRepository.save(log);
+                auditLogWriter.submit(AuditEvent.ofEntity(
+                        AuditLog.ActionType.CREATE,
+                        result.getClass().getSimpleName(),
+                        getEntityId(result),
+                        currentActorName(),
+                        convertToJson(result)));
             } catch (Exception e) {
                 logger.error("Failed to log CREATE audit event", e);
             }
@@ -93,12 +93,12 @@ public class AuditLoggingAspect {
     public void logUpdate(JoinPoint joinPoint, Object result) {
         if (result != null) {
             try {
-                AuditLog log = createBaseAuditLog();
-                log.setActionType(AuditLog.ActionType.UPDATE);
-                log.setEntityType(result.getClass().getSimpleName());
-                log.setEntityId(getEntityId(result));
-                log.setPayload(convertToJson(result));
-                auditLogRepository.save(log);
+                auditLogWriter.submit(AuditEvent.ofEntity(
+                        AuditLog.ActionType.UPDATE,
+                        result.getClass().getSimpleName(),
+                        getEntityId(result),
+                        currentActorName(),
+                        convertToJson(result)));
             } catch (Exception e) {
                 logger.error("Failed to log UPDATE audit event", e);
             }
@@ -119,17 +119,12 @@ public class AuditLoggingAspect {
         try {
             Object[] args = joinPoint.getArgs();
             if (args.length > 0) {
-                AuditLog log = createBaseAuditLog();
-                log.setActionType(AuditLog.ActionType.DELETE);
-
                 String methodName = joinPoint.getSignature().getName();
                 String entityType = extractEntityTypeFromMethodName(methodName);
-                log.setEntityType(entityType);
-
                 String entityId = extractEntityId(args[0]);
-                log.setEntityId(entityId);
 
-                auditLogRepository.save(log);
+                auditLogWriter.submit(AuditEvent.ofEntity(
+                        AuditLog.ActionType.DELETE, entityType, entityId, currentActorName(), null));
             }
         } catch (Exception e) {
             logger.error("Failed to log DELETE audit event", e);
@@ -137,57 +132,29 @@ public class AuditLoggingAspect {
     }
 
     /**
-     * Creates a base AuditLog object with common properties set.
+     * Returns the name of the user performing the current operation.
      * 
-     * This helper method initializes a new AuditLog with default values
-     * for the actor name and timestamp.
+     * Operations run outside an authenticated request, such as scheduled jobs,
+     * are attributed to "system".
      *
-     * @return A new AuditLog instance with common properties initialized
+     * @return The current user's name
      */
-    private AuditLog createBaseAuditLog() {
+    private String currentActorName() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        AuditLog log = new AuditLog();
-        log.setActorName(auth.getName());
-        log.setTimestamp(Instant.now());
-        return log;
+        return auth != null ? auth.getName() : "system";
     }
 
     /**
-     * Extracts the ID from an entity object using reflection.
-     * 
-     * This method attempts to find and invoke a "getId" method on the entity.
-     * If no such method exists, it looks for any method containing "id" in its name.
-     * 
+     * Extracts the ID from an entity object.
+     *
+     * The ID accessor of each class is resolved once and cached by {@link EntityIdResolver},
+     * so repeated calls avoid reflective method scans.
+     *
      * @param entity The entity object from which to extract the ID
      * @return The string representation of the entity's ID, or "unknown" if it cannot be determined
      */
     private String getEntityId(Object entity) {
-        if (entity == null) {
-            return "unknown";
-        }
-
-        try {
-            Method[] methods = entity.getClass().getDeclaredMethods();
-            for (Method method : methods) {
-                if (method.getName().equals("getId") && method.getParameterCount() == 0) {
-                    Object id = method.invoke(entity);
-                    return id != null ? id.toString() : "null";
-                }
-            }
-
-            for (Method method : methods) {
-                if (method.getName().toLowerCase().contains("id") &&
-                        method.getParameterCount() == 0 &&
-                        !method.getReturnType().equals(void.class)) {
-                    Object id = method.invoke(entity);
-                    return id != null ? id.toString() : "null";
-                }
-            }
-        } catch (Exception e) {
-            logger.warn("Could not extract entity ID from {}", entity.getClass().getSimpleName(), e);
-        }
-
-        return "unknown";
+        return EntityIdResolver.resolve(entity);
     }
 
     /**
@@ -242,23 +209,24 @@ public class AuditLoggingAspect {
     }
 
     /**
-     * Converts an object to its JSON string representation.
+     * Converts an object to a JSON tree.
      * 
-     * This method attempts to serialize the given object to JSON using the ObjectMapper.
-     * If serialization fails, it creates a simple JSON object with error information.
+     * The tree is a snapshot of the object at the time of the call; it is only rendered to
+     * its stored form on the audit writer's thread. If conversion fails, a simple JSON object
+     * with error information is returned instead.
      *
      * @param obj The object to convert to JSON
-     * @return A JSON string representation of the object, or an error JSON if conversion fails
+     * @return A JSON tree of the object, or an error object if conversion fails
      */
-    private String convertToJson(Object obj) {
+    private JsonNode convertToJson(Object obj) {
         try {
-            return String.valueOf(objectMapper.valueToTree(obj));
+            return objectMapper.valueToTree(obj);
         } catch (Exception e) {
             logger.warn("Could not convert object to JSON", e);
             ObjectNode errorNode = objectMapper.createObjectNode();
             errorNode.put("error", "Could not serialize object");
             errorNode.put("class", obj.getClass().getSimpleName());
-            return String.valueOf(errorNode);
+            return errorNode;
         }
     }
 }
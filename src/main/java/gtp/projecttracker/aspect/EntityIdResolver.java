@@ -0,0 +1,152 @@
+package gtp.projecttracker.aspect;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * Resolves the identifier of audited entities and DTOs without per-call reflection.
+ * <p>
+ * The ID accessor of each class is looked up once and cached in a {@link ClassValue}.
+ * Where possible the accessor is compiled into a {@link Function} via {@link LambdaMetafactory},
+ * so subsequent calls are plain interface invocations that the JIT can inline. Classes whose
+ * accessor is not reachable through a lookup (non-public types, foreign class loaders) fall
+ * back to a cached reflective {@link Method}.
+ * </p>
+ *
+ * <p>Accessor selection order:</p>
+ * <ol>
+ *   <li>a public, no-argument {@code getId()} (including inherited ones, which covers proxies)</li>
+ *   <li>a no-argument {@code id()} record accessor</li>
+ *   <li>the first declared no-argument, non-void method whose name contains "id"</li>
+ * </ol>
+ */
+public final class EntityIdResolver {
+    private static final Logger logger = LoggerFactory.getLogger(EntityIdResolver.class);
+
+    static final String UNKNOWN = "unknown";
+    private static final Function<Object, Object> NO_ACCESSOR = entity -> UNKNOWN;
+    private static final MethodType SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Function<Object, Object>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> type) {
+            return createAccessor(type);
+        }
+    };
+
+    private EntityIdResolver() {
+    }
+
+    /**
+     * Extracts the ID of the given object as a string.
+     *
+     * @param entity The entity or DTO to inspect
+     * @return The string representation of the ID, "null" if the ID is unset,
+     *         or "unknown" if the type exposes no ID accessor
+     */
+    public static String resolve(Object entity) {
+        if (entity == null) {
+            return UNKNOWN;
+        }
+
+        Function<Object, Object> accessor = ACCESSORS.get(entity.getClass());
+        if (accessor == NO_ACCESSOR) {
+            return UNKNOWN;
+        }
+
+        try {
+            Object id = accessor.apply(entity);
+            return id != null ? id.toString() : "null";
+        } catch (RuntimeException e) {
+            logger.warn("Could not extract entity ID from {}", entity.getClass().getSimpleName(), e);
+            return UNKNOWN;
+        }
+    }
+
+    private static Function<Object, Object> createAccessor(Class<?> type) {
+        Method method = findIdMethod(type);
+        if (method == null) {
+            return NO_ACCESSOR;
+        }
+
+        try {
+            return compile(method);
+        } catch (Throwable e) {
+            logger.debug("Falling back to reflective ID accessor for {}: {}", type.getName(), e.getMessage());
+            return reflective(method);
+        }
+    }
+
+    private static Method findIdMethod(Class<?> type) {
+        try {
+            Method getId = type.getMethod("getId");
+            if (getId.getReturnType() != void.class) {
+                return getId;
+            }
+        } catch (NoSuchMethodException ignored) {
+            // try the next strategy
+        }
+
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().equals("id") && isAccessor(method)) {
+                return method;
+            }
+        }
+
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().toLowerCase().contains("id") && isAccessor(method)) {
+                return method;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isAccessor(Method method) {
+        return method.getParameterCount() == 0
+                && method.getReturnType() != void.class
+                && !Modifier.isStatic(method.getModifiers())
+                && !method.isSynthetic();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> compile(Method method) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle getter = lookup.unreflect(method);
+
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                SAM_TYPE,
+                getter,
+                MethodType.methodType(Object.class, method.getDeclaringClass())
+        );
+        return (Function<Object, Object>) site.getTarget().invokeExact();
+    }
+
+    private static Function<Object, Object> reflective(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            return NO_ACCESSOR;
+        }
+
+        return entity -> {
+            try {
+                return method.invoke(entity);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
@@ -1,11 +1,12 @@
 package gtp.projecttracker.aspect;
 
+import gtp.projecttracker.audit.AuditEvent;
+import gtp.projecttracker.audit.AuditLogWriter;
+import gtp.projecttracker.dto.request.user.LoginRequest;
 import gtp.projecttracker.dto.request.user.RegisterRequest;
 import gtp.projecttracker.dto.response.ErrorResponse;
 import gtp.projecttracker.model.mongodb.AuditLog;
-import gtp.projecttracker.repository.mongodb.AuditLogRepository;
 
-import jakarta.servlet.http.HttpServletRequest;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.slf4j.Logger;
@@ -16,10 +17,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-
-import java.time.Instant;
 
 /**
  * Aspect for comprehensive security event logging that captures authentication, authorization,
@@ -28,7 +25,12 @@ import java.time.Instant;
  * This aspect serves as the centralized auditing mechanism for all security-related operations,
  * creating detailed audit trails for compliance, monitoring, and forensic analysis purposes.
  * It intercepts key security events through AOP pointcuts and persists them as structured
- * audit logs in the database.
+ * audit logs through the shared asynchronous audit writer.
+ * </p>
+ * <p>
+ * Advice runs on the request thread, including the latency-sensitive login endpoint, so it only
+ * captures the request metadata into an immutable {@link AuditEvent} and queues it; documents
+ * are built and inserted in batches on the writer's thread.
  * </p>
  *
  * <p><b>Key Features:</b></p>
@@ -44,16 +46,16 @@ import java.time.Instant;
 public class SecurityLoggingAspect {
     private static final Logger logger = LoggerFactory.getLogger(SecurityLoggingAspect.class);
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
 
     /**
-     * Constructs a new SecurityLoggingAspect with the required repository.
+     * Constructs a new SecurityLoggingAspect with the required writer.
      *
-     * @param auditLogRepository the repository used to persist audit logs
+     * @param auditLogWriter the asynchronous writer used to persist audit logs
      */
     @Autowired
-    public SecurityLoggingAspect(AuditLogRepository auditLogRepository) {
-        this.auditLogRepository = auditLogRepository;
+    public SecurityLoggingAspect(AuditLogWriter auditLogWriter) {
+        this.auditLogWriter = auditLogWriter;
     }
 
     /**
@@ -69,13 +71,13 @@ public class SecurityLoggingAspect {
     )
     public void logSuccessfulRegistration(RegisterRequest request, ResponseEntity<?> response) {
         try {
-            AuditLog log = createBaseAuditLog(
+            AuditEvent event = securityEvent(
                     AuditLog.ActionType.REGISTRATION_SUCCESS,
                     request.email(),
                     "User registered successfully"
             );
 
-            auditLogRepository.save(log);
+            auditLogWriter.submit(event);
             logger.info("Successful registration for: {}", request.email());
         } catch (Exception e) {
             logger.error("Failed to log registration success", e);
@@ -107,13 +109,13 @@ public class SecurityLoggingAspect {
                 payload = "Failure reason: " + response.getStatusCode();
             }
 
-            AuditLog log = createBaseAuditLog(
+            AuditEvent event = securityEvent(
                     AuditLog.ActionType.REGISTRATION_FAILURE,
                     request.email(),
                     payload
             );
 
-            auditLogRepository.save(log);
+            auditLogWriter.submit(event);
             logger.warn("Failed registration attempt for: {}", request.email());
         } catch (Exception e) {
             logger.error("Failed to log registration failure", e);
@@ -132,12 +134,12 @@ public class SecurityLoggingAspect {
     )
     public void logSuccessfulLogin(JoinPoint joinPoint, Object result) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        AuditLog log = createBaseAuditLog(
+        AuditEvent event = securityEvent(
                 AuditLog.ActionType.LOGIN_SUCCESS,
                 auth != null ? auth.getName() : "anonymous",
                 null
         );
-        auditLogRepository.save(log);
+        auditLogWriter.submit(event);
     }
 
     /**
@@ -152,14 +154,42 @@ public class SecurityLoggingAspect {
     )
     public void logFailedLogin(JoinPoint joinPoint, Exception ex) {
         Object[] args = joinPoint.getArgs();
-        String username = (args != null && args.length > 0) ? args[0].toString() : "unknown";
+        // Never fall back to toString(): the login request carries the password
+        String username = (args != null && args.length > 0 && args[0] instanceof LoginRequest request)
+                ? request.email()
+                : "unknown";
 
-        AuditLog log = createBaseAuditLog(
+        AuditEvent event = securityEvent(
                 AuditLog.ActionType.LOGIN_FAILURE,
                 username,
                 "Error: " + ex.getMessage()
         );
-        auditLogRepository.save(log);
+        auditLogWriter.submit(event);
+    }
+
+    /**
+     * Logs login attempts that the login endpoint rejected with an error response
+     * instead of an exception, such as invalid credentials.
+     *
+     * @param request  the login request; only its email is recorded
+     * @param response the response entity returned by the login endpoint
+     */
+    @AfterReturning(
+            pointcut = "execution(* gtp.projecttracker.controller.AuthController.login(..)) && args(request)",
+            returning = "response",
+            argNames = "request,response"
+    )
+    public void logRejectedLogin(LoginRequest request, ResponseEntity<?> response) {
+        if (response.getStatusCode().is2xxSuccessful()) {
+            return;
+        }
+
+        AuditEvent event = securityEvent(
+                AuditLog.ActionType.LOGIN_FAILURE,
+                request.email(),
+                "Failure reason: " + response.getStatusCode()
+        );
+        auditLogWriter.submit(event);
     }
 
     /**
@@ -170,12 +200,12 @@ public class SecurityLoggingAspect {
     @Before("execution(* gtp.projecttracker.exception.AuthExceptionHandler.handleAccessDenied(..))")
     public void logAccessDenied(JoinPoint joinPoint) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        AuditLog log = createBaseAuditLog(
+        AuditEvent event = securityEvent(
                 AuditLog.ActionType.ACCESS_DENIED,
                 auth != null ? auth.getName() : "anonymous",
                 null
         );
-        auditLogRepository.save(log);
+        auditLogWriter.submit(event);
     }
 
     /**
@@ -186,51 +216,27 @@ public class SecurityLoggingAspect {
     @After("execution(* gtp.projecttracker.controller.AuthController.logout(..))")
     public void logLogout(JoinPoint joinPoint) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        AuditLog log = createBaseAuditLog(
+        AuditEvent event = securityEvent(
                 AuditLog.ActionType.LOGOUT,
                 auth != null ? auth.getName() : "anonymous",
                 null
         );
-        auditLogRepository.save(log);
-    }
-
-    /**
-     * Retrieves the current HTTP request from the request context.
-     *
-     * @return the current HttpServletRequest
-     */
-    private HttpServletRequest getCurrentRequest() {
-        return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
-                .getRequest();
+        auditLogWriter.submit(event);
     }
 
     /**
-     * Creates a base audit log with common fields populated.
+     * Creates a security audit event with common fields populated.
      * <p>
-     * This helper method centralizes the creation of audit log entries
-     * with standard fields like timestamp, IP address, user agent, and endpoint.
+     * This helper method centralizes the capture of standard fields like timestamp,
+     * IP address, user agent, and endpoint from the current request.
      * </p>
      *
      * @param actionType the type of action being logged
      * @param actorName  the name of the user performing the action
      * @param payload    additional details about the event (optional, may be null)
-     * @return a populated AuditLog object ready for persistence
+     * @return an immutable event ready to be queued
      */
-    private AuditLog createBaseAuditLog(AuditLog.ActionType actionType, String actorName, String payload) {
-        HttpServletRequest request = getCurrentRequest();
-
-        AuditLog log = new AuditLog();
-        log.setActionType(actionType);
-        log.setTimestamp(Instant.now());
-        log.setActorName(actorName);
-        log.setIpAddress(request.getRemoteAddr());
-        log.setUserAgent(request.getHeader("User-Agent"));
-        log.setEndpoint(request.getRequestURI());
-
-        if (payload != null) {
-            log.setPayload(payload);
-        }
-
-        return log;
+    private AuditEvent securityEvent(AuditLog.ActionType actionType, String actorName, String payload) {
+        return AuditEvent.ofSecurity(actionType, actorName, payload);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
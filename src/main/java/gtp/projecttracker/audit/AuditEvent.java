@@ -0,0 +1,66 @@
+package gtp.projecttracker.audit;
+
+import gtp.projecttracker.model.mongodb.AuditLog;
+import gtp.projecttracker.model.mongodb.AuditLog.ActionType;
+
+import java.time.Instant;
+
+/**
+ * Immutable audit event captured on the request thread and handed to {@link AuditLogWriter},
+ * which turns it into an {@link AuditLog} document on its own thread.
+ *
+ * @param actionType The audited action
+ * @param entityType The type of the affected entity, or null for security events
+ * @param entityId The ID of the affected entity, or null for security events
+ * @param actorName The name of the user performing the action
+ * @param payload Additional details about the event: a message, a {@code JsonNode} snapshot
+ *                of the entity, or null
+ * @param request The request the event was raised in
+ * @param timestamp When the event occurred
+ */
+public record AuditEvent(
+        ActionType actionType,
+        String entityType,
+        String entityId,
+        String actorName,
+        Object payload,
+        RequestMetadata request,
+        Instant timestamp
+) {
+    /**
+     * Creates an entity event stamped with the current time and request.
+     */
+    public static AuditEvent ofEntity(ActionType actionType, String entityType, String entityId,
+                                      String actorName, Object payload) {
+        return new AuditEvent(actionType, entityType, entityId, actorName, payload,
+                RequestMetadata.current(), Instant.now());
+    }
+
+    /**
+     * Creates a security event stamped with the current time and request.
+     */
+    public static AuditEvent ofSecurity(ActionType actionType, String actorName, String payload) {
+        return new AuditEvent(actionType, null, null, actorName, payload,
+                RequestMetadata.current(), Instant.now());
+    }
+
+    /**
+     * Converts the event to the document persisted in MongoDB.
+     *
+     * @param payloadCodec Codec converting the payload to its stored form
+     * @return A new audit log document
+     */
+    public AuditLog toAuditLog(AuditPayloadCodec payloadCodec) {
+        AuditLog log = new AuditLog();
+        log.setActionType(actionType);
+        log.setEntityType(entityType);
+        log.setEntityId(entityId);
+        log.setActorName(actorName);
+        log.setPayload(payloadCodec.encode(payload));
+        log.setTimestamp(timestamp);
+        log.setIpAddress(request.ipAddress());
+        log.setUserAgent(request.userAgent());
+        log.setEndpoint(request.endpoint());
+        return log;
+    }
+}
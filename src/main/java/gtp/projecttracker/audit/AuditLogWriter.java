@@ -0,0 +1,370 @@
+package gtp.projecttracker.audit;
+
+import gtp.projecttracker.config.AuditProperties;
+import gtp.projecttracker.config.AuditProperties.OverflowPolicy;
+import gtp.projecttracker.model.mongodb.AuditLog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asynchronous, batched writer for {@link AuditLog} entries.
+ * <p>
+ * Callers hand immutable {@link AuditEvent}s to a bounded in-memory queue. A single background
+ * drainer thread converts them to documents and flushes them to MongoDB with one bulk insert whenever
+ * either the configured batch size is reached or the flush interval has elapsed since the
+ * first entry of the batch was queued. Callers therefore never wait on a MongoDB round-trip.
+ * Everything still queued is flushed when the application shuts down; events submitted after
+ * that are spilled and replayed on the next start.
+ * </p>
+ *
+ * <p>When the queue is full the configured {@link OverflowPolicy} decides whether the caller
+ * briefly waits for space, the entry is dropped, or it is spilled to a local NDJSON file that
+ * is replayed once the queue is idle again. Spilled entries are delivered at least once.</p>
+ *
+ * <p><b>Metrics:</b></p>
+ * <ul>
+ *   <li>{@code audit.queue.depth} - number of entries waiting to be flushed</li>
+ *   <li>{@code audit.flush.latency} - duration of each bulk insert</li>
+ *   <li>{@code audit.lag} - time from an event occurring to its bulk insert completing</li>
+ *   <li>{@code audit.events.dropped} - entries discarded because of overflow or flush failures</li>
+ *   <li>{@code audit.events.spilled} - entries written to the spill file</li>
+ * </ul>
+ */
+@Component
+public class AuditLogWriter {
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+    private static final String SPILL_FILE = "audit-spill.ndjson";
+    private static final String REPLAY_FILE = "audit-replay.ndjson";
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+    private static final long REPLAY_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditPayloadCodec payloadCodec;
+    private final AuditProperties properties;
+    private final BlockingQueue<AuditEvent> queue;
+    private final Lock spillLock = new ReentrantLock();
+    private final Path spillFile;
+    private final Path replayFile;
+
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+
+    private volatile boolean running;
+    private Thread drainer;
+    private long nextReplayAttempt;
+
+    /**
+     * Constructs a new AuditLogWriter with the required dependencies.
+     *
+     * @param mongoTemplate Template used for bulk inserts into the audit collection
+     * @param objectMapper JSON mapper used to read and write spilled entries
+     * @param payloadCodec Codec converting payloads to their stored form
+     * @param properties Queue, batching and overflow settings
+     * @param meterRegistry Registry for the queue, flush, lag and drop metrics
+     */
+    public AuditLogWriter(MongoTemplate mongoTemplate,
+                          ObjectMapper objectMapper,
+                          AuditPayloadCodec payloadCodec,
+                          AuditProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.payloadCodec = payloadCodec;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.spillFile = properties.spillDirectory().resolve(SPILL_FILE);
+        this.replayFile = properties.spillDirectory().resolve(REPLAY_FILE);
+
+        Gauge.builder("audit.queue.depth", queue, Collection::size)
+                .description("Audit entries waiting to be flushed to MongoDB")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush.latency")
+                .description("Time taken to bulk insert a batch of audit entries")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("audit.lag")
+                .description("Time from an audit event occurring until it is stored in MongoDB")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.events.dropped")
+                .description("Audit entries discarded because the queue was full or a flush failed")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("audit.events.spilled")
+                .description("Audit entries written to the local spill file")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the background drainer thread.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        nextReplayAttempt = System.nanoTime();
+        drainer = new Thread(this::drainLoop, "audit-log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Stops accepting new work and flushes everything still queued before the
+     * application context closes.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (drainer == null) {
+            return;
+        }
+
+        try {
+            drainer.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (drainer.isAlive()) {
+            logger.warn("Audit writer did not finish within {} ms, {} entries may be lost",
+                    SHUTDOWN_TIMEOUT_MS, queue.size());
+            return;
+        }
+
+        // Entries queued while the drainer was finishing are kept for the next start
+        List<AuditEvent> late = new ArrayList<>();
+        queue.drainTo(late);
+        if (!late.isEmpty()) {
+            spill(late);
+        }
+    }
+
+    /**
+     * Queues an audit event for asynchronous persistence.
+     * <p>
+     * This method never performs I/O against MongoDB. If the queue is full, the configured
+     * overflow policy is applied. After shutdown the event is spilled.
+     * </p>
+     *
+     * @param event The audit event to persist
+     */
+    public void submit(AuditEvent event) {
+        if (event == null) {
+            return;
+        }
+        if (!running) {
+            spill(List.of(event));
+            return;
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+
+        OverflowPolicy policy = properties.overflowPolicy();
+        switch (policy) {
+            case BLOCK -> offerWithTimeout(event);
+            case DROP -> droppedCounter.increment();
+            case SPILL -> spill(List.of(event));
+        }
+    }
+
+    /**
+     * Returns the number of entries currently waiting to be flushed.
+     *
+     * @return The current queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void offerWithTimeout(AuditEvent event) {
+        try {
+            if (!queue.offer(event, properties.offerTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                droppedCounter.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCounter.increment();
+        }
+    }
+
+    private void drainLoop() {
+        int batchSize = properties.batchSize();
+        long flushIntervalNanos = properties.flushInterval().toNanos();
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+
+        while (running) {
+            try {
+                long waitNanos = batch.isEmpty()
+                        ? flushIntervalNanos
+                        : Math.max(0, deadline - System.nanoTime());
+                AuditEvent next = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+
+                if (next != null) {
+                    if (batch.isEmpty()) {
+                        deadline = System.nanoTime() + flushIntervalNanos;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                if (batch.size() >= batchSize || (!batch.isEmpty() && System.nanoTime() >= deadline)) {
+                    flush(batch);
+                    batch.clear();
+                } else if (batch.isEmpty() && queue.isEmpty()) {
+                    replaySpilled();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("Unexpected error in audit writer loop", e);
+            }
+        }
+
+        // Final drain on shutdown
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            flush(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+        logger.info("Audit writer stopped after flushing {} pending entries", batch.size());
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<AuditLog> documents = toAuditLogs(batch);
+            flushTimer.record(() -> mongoTemplate.insert(documents, AuditLog.class));
+            recordLag(batch);
+        } catch (Exception e) {
+            logger.error("Failed to flush {} audit entries", batch.size(), e);
+            if (properties.overflowPolicy() == OverflowPolicy.SPILL) {
+                spill(batch);
+            } else {
+                droppedCounter.increment(batch.size());
+            }
+        }
+    }
+
+    private List<AuditLog> toAuditLogs(List<AuditEvent> events) {
+        List<AuditLog> documents = new ArrayList<>(events.size());
+        for (AuditEvent event : events) {
+            documents.add(event.toAuditLog(payloadCodec));
+        }
+        return documents;
+    }
+
+    private void recordLag(List<AuditEvent> batch) {
+        Instant stored = Instant.now();
+        for (AuditEvent event : batch) {
+            lagTimer.record(Duration.between(event.timestamp(), stored));
+        }
+    }
+
+    private void spill(List<AuditEvent> events) {
+        spillLock.lock();
+        try {
+            Files.createDirectories(spillFile.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AuditEvent event : events) {
+                    writer.write(objectMapper.writeValueAsString(event.toAuditLog(payloadCodec)));
+                    writer.newLine();
+                }
+            }
+            spilledCounter.increment(events.size());
+        } catch (IOException e) {
+            logger.error("Failed to spill {} audit entries to {}", events.size(), spillFile, e);
+            droppedCounter.increment(events.size());
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    /**
+     * Re-queues spilled entries once the writer is idle. The spill file is first moved
+     * aside so concurrent spills start a fresh file while the old one is replayed.
+     */
+    private void replaySpilled() {
+        if (System.nanoTime() - nextReplayAttempt < 0) {
+            return;
+        }
+
+        if (!Files.exists(replayFile)) {
+            spillLock.lock();
+            try {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+                Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.error("Failed to rotate audit spill file {}", spillFile, e);
+                return;
+            } finally {
+                spillLock.unlock();
+            }
+        }
+
+        int batchSize = properties.batchSize();
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(objectMapper.readValue(line, AuditLog.class));
+                if (batch.size() == batchSize) {
+                    mongoTemplate.insert(new ArrayList<>(batch), AuditLog.class);
+                    replayed += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                mongoTemplate.insert(batch, AuditLog.class);
+                replayed += batch.size();
+            }
+            Files.delete(replayFile);
+            logger.info("Replayed {} spilled audit entries", replayed);
+        } catch (Exception e) {
+            // Leave the replay file in place and retry after a back-off.
+            nextReplayAttempt = System.nanoTime() + REPLAY_RETRY_BACKOFF_NANOS;
+            logger.warn("Audit spill replay interrupted after {} entries: {}", replayed, e.getMessage());
+        }
+    }
+}
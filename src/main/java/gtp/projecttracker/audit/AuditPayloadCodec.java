@@ -0,0 +1,227 @@
+package gtp.projecttracker.audit;
+
+import gtp.projecttracker.config.AuditProperties;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Converts audit payloads between their captured form and the form stored in MongoDB.
+ * <p>
+ * Structured payloads ({@link JsonNode} snapshots of entities) are stored as native BSON
+ * subdocuments, so they are neither serialised to JSON text nor stored as escaped strings.
+ * Payloads larger than {@code app.audit.payload-compression-threshold} are stored as gzipped
+ * JSON in a binary field instead. Plain text payloads, such as security event messages, are
+ * stored as strings.
+ * </p>
+ * <p>
+ * {@link Serializer} renders all three forms as JSON, including the JSON strings stored by
+ * earlier versions, so API responses do not depend on how a payload was stored.
+ * </p>
+ */
+@Component
+public class AuditPayloadCodec {
+    private static final Logger logger = LoggerFactory.getLogger(AuditPayloadCodec.class);
+    private static final ObjectMapper LEGACY_READER = new ObjectMapper();
+
+    private final ObjectMapper objectMapper;
+    private final long compressionThreshold;
+
+    /**
+     * Constructs a new AuditPayloadCodec.
+     *
+     * @param objectMapper JSON mapper used to write compressed payloads
+     * @param properties Audit settings providing the compression threshold
+     */
+    public AuditPayloadCodec(ObjectMapper objectMapper, AuditProperties properties) {
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = properties.payloadCompressionThreshold().toBytes();
+    }
+
+    /**
+     * Converts a captured payload to the value stored in the audit document.
+     *
+     * @param payload A {@link JsonNode}, a string, or null
+     * @return A BSON {@link Document} or list, gzipped JSON bytes, a string, or null
+     */
+    public Object encode(Object payload) {
+        if (!(payload instanceof JsonNode node)) {
+            return payload;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+
+        if (exceeds(node, compressionThreshold)) {
+            try {
+                return compress(node);
+            } catch (IOException e) {
+                logger.warn("Could not compress audit payload, storing it uncompressed", e);
+            }
+        }
+        return toBson(node);
+    }
+
+    private byte[] compress(JsonNode node) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, node);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Converts a JSON tree to the equivalent BSON value.
+     *
+     * @param node The JSON tree
+     * @return A {@link Document}, list, string, number, boolean, byte array or null
+     */
+    public static Object toBson(JsonNode node) {
+        return switch (node.getNodeType()) {
+            case OBJECT -> {
+                Document document = new Document();
+                for (Map.Entry<String, JsonNode> field : node.properties()) {
+                    document.put(field.getKey(), toBson(field.getValue()));
+                }
+                yield document;
+            }
+            case ARRAY -> {
+                List<Object> values = new ArrayList<>(node.size());
+                for (JsonNode element : node) {
+                    values.add(toBson(element));
+                }
+                yield values;
+            }
+            case STRING -> node.textValue();
+            // BSON has no arbitrary-precision integer type
+            case NUMBER -> node.isBigInteger() ? new BigDecimal(node.bigIntegerValue()) : node.numberValue();
+            case BOOLEAN -> node.booleanValue();
+            case BINARY -> {
+                try {
+                    yield node.binaryValue();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            case POJO -> node.toString();
+            case NULL, MISSING -> null;
+        };
+    }
+
+    /**
+     * Estimates whether the serialised size of a tree exceeds the limit, stopping as soon as
+     * it does.
+     */
+    private static boolean exceeds(JsonNode root, long limit) {
+        long size = 0;
+        List<JsonNode> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            JsonNode node = pending.remove(pending.size() - 1);
+            if (node.isContainerNode()) {
+                for (Map.Entry<String, JsonNode> field : node.properties()) {
+                    size += field.getKey().length() + 4;
+                    pending.add(field.getValue());
+                }
+                if (node.isArray()) {
+                    node.forEach(pending::add);
+                }
+                size += 2;
+            } else if (node.isTextual()) {
+                size += node.textValue().length() + 3;
+            } else {
+                size += 8;
+            }
+            if (size > limit) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String decompress(byte[] data) throws IOException {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Renders a stored payload as JSON, whichever form it was stored in.
+     */
+    public static class Serializer extends StdSerializer<Object> {
+        public Serializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value instanceof String text) {
+                writeText(text, gen);
+            } else if (value instanceof byte[] data) {
+                gen.writeRawValue(decompress(data));
+            } else if (value instanceof Binary binary) {
+                gen.writeRawValue(decompress(binary.getData()));
+            } else {
+                provider.defaultSerializeValue(value, gen);
+            }
+        }
+
+        /**
+         * Entity payloads used to be stored as JSON text; render those as JSON, and anything
+         * else, such as security event messages, as a string.
+         */
+        private static void writeText(String text, JsonGenerator gen) throws IOException {
+            String trimmed = text.strip();
+            if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+                try {
+                    gen.writeTree(LEGACY_READER.readTree(trimmed));
+                    return;
+                } catch (JsonProcessingException e) {
+                    // Not JSON after all
+                }
+            }
+            gen.writeString(text);
+        }
+    }
+
+    /**
+     * Reads a payload rendered by {@link Serializer} back into a storable value, e.g. when
+     * spilled audit entries are replayed.
+     */
+    public static class Deserializer extends StdDeserializer<Object> {
+        public Deserializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = parser.readValueAsTree();
+            return node.isTextual() ? node.textValue() : toBson(node);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package gtp.projecttracker.audit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Client and endpoint details of the HTTP request an audit event was raised in.
+ *
+ * @param ipAddress The client's IP address
+ * @param userAgent The client's {@code User-Agent} header
+ * @param endpoint The request URI
+ */
+public record RequestMetadata(
+        String ipAddress,
+        String userAgent,
+        String endpoint
+) {
+    /**
+     * Metadata of events raised outside an HTTP request, such as scheduled jobs.
+     */
+    public static final RequestMetadata NONE = new RequestMetadata(null, null, null);
+
+    /**
+     * Captures the metadata of the request bound to the current thread. Only reads values the
+     * servlet container has already parsed, so it is cheap enough for the request thread.
+     *
+     * @return The current request's metadata, or {@link #NONE} outside a request
+     */
+    public static RequestMetadata current() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return NONE;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        return new RequestMetadata(
+                request.getRemoteAddr(),
+                request.getHeader(HttpHeaders.USER_AGENT),
+                request.getRequestURI());
+    }
+}
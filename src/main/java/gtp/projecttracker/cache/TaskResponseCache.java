@@ -0,0 +1,76 @@
+package gtp.projecttracker.cache;
+
+import gtp.projecttracker.config.CacheConfig;
+import gtp.projecttracker.dto.response.task.TaskResponse;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of {@link TaskResponse}s keyed by task ID, backed by the
+ * {@link CacheConfig#CACHE_TASKS} cache.
+ * <p>
+ * Entries are evicted after the transaction that changed a task commits (see
+ * {@code CacheEvictionListener}). To keep a reader that loaded the task just before such a
+ * commit from re-inserting the old state after the eviction, every eviction bumps an
+ * invalidation counter: a loaded value is only cached if no eviction happened since the load
+ * started, and is removed again if one happened while it was being stored.
+ * </p>
+ */
+@Component
+public class TaskResponseCache {
+    private final Cache cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TaskResponseCache(@Qualifier("cacheManager") CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CACHE_TASKS),
+                "Cache '" + CacheConfig.CACHE_TASKS + "' is not configured");
+    }
+
+    /**
+     * Returns the cached response for a task, loading and caching it on a miss.
+     *
+     * @param taskId The task ID
+     * @param loader Loads the current response from the database
+     * @return The task response
+     */
+    public TaskResponse get(UUID taskId, Supplier<TaskResponse> loader) {
+        TaskResponse cached = cache.get(taskId, TaskResponse.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = invalidations.get();
+        TaskResponse loaded = loader.get();
+        if (loaded != null && generation == invalidations.get()) {
+            cache.put(taskId, loaded);
+            if (generation != invalidations.get()) {
+                cache.evict(taskId);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes a single task.
+     */
+    public void evict(UUID taskId) {
+        invalidations.incrementAndGet();
+        cache.evict(taskId);
+    }
+
+    /**
+     * Removes all tasks, e.g. after a bulk update or a change to data embedded in every response.
+     */
+    public void clear() {
+        invalidations.incrementAndGet();
+        cache.clear();
+    }
+}
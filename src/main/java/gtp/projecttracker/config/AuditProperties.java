@@ -0,0 +1,44 @@
+package gtp.projecttracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the asynchronous audit pipeline.
+ * Binds properties with the prefix "app.audit" from the application configuration.
+ * Controls the size of the in-memory audit queue, the batch thresholds used when
+ * flushing to MongoDB, what happens when the queue is full, and the payload size above
+ * which entity snapshots are stored gzipped instead of as BSON subdocuments.
+ */
+@ConfigurationProperties(prefix = "app.audit")
+public record AuditProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("SPILL") OverflowPolicy overflowPolicy,
+        @DefaultValue("50ms") Duration offerTimeout,
+        Path spillDirectory,
+        @DefaultValue("4KB") DataSize payloadCompressionThreshold
+) {
+    public AuditProperties {
+        if (spillDirectory == null) {
+            spillDirectory = Path.of(System.getProperty("java.io.tmpdir"), "project-tracker-audit");
+        }
+    }
+
+    /**
+     * Strategy applied when an audit entry is submitted while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait up to {@code offerTimeout} for space, then drop the entry. */
+        BLOCK,
+        /** Drop the entry immediately and count it. */
+        DROP,
+        /** Append the entry to a local spill file that is replayed once the queue drains. */
+        SPILL
+    }
+}
@@ -8,50 +8,51 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
     public static final String CACHE_USERS = "users";
+    public static final String CACHE_USER_DETAILS = "userDetails";
     public static final String CACHE_PROJECTS = "projects";
+    public static final String CACHE_PROJECT_LISTS = "projectLists";
     public static final String CACHE_TASKS = "tasks";
-    public static final String CACHE_AUTH = "authCache";
+    public static final String CACHE_AUDIT_ANALYTICS = "auditAnalytics";
 
     /**
-     * Primary cache manager for business entities
+     * Every cache used by the application. Caches are created eagerly so that the actuator
+     * registers Micrometer cache metrics for all of them at startup.
      */
-    @Bean
-    @Primary
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                CACHE_USERS,
-                CACHE_PROJECTS,
-                CACHE_TASKS
-        );
-
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(5000)
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .recordStats()
-                .weakKeys()
-        );
-
-        return cacheManager;
-    }
+    public static final List<String> CACHE_NAMES = List.of(
+            CACHE_USERS,
+            CACHE_USER_DETAILS,
+            CACHE_PROJECTS,
+            CACHE_PROJECT_LISTS,
+            CACHE_TASKS,
+            CACHE_AUDIT_ANALYTICS
+    );
 
     /**
-     * Specialized cache manager for authentication-related data
-     * with shorter TTL and higher throughput
+     * Primary cache manager for business entities, with one Caffeine spec per cache.
+     * <p>
+     * Keys are compared with {@code equals}: {@code UUID} and {@code String} keys are created
+     * per request, so identity-based (weak) keys would never hit. Undeclared cache names are
+     * rejected rather than silently created with an unconfigured spec.
+     * </p>
      */
     @Bean
-    public CacheManager authCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CACHE_AUTH);
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(5000)
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .recordStats()
-        );
+    @Primary
+    public CacheManager cacheManager(CacheSpecProperties cacheSpecProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+
+        for (String cacheName : CACHE_NAMES) {
+            cacheManager.registerCustomCache(cacheName, Caffeine.from(cacheSpecProperties.specFor(cacheName))
+                    .recordStats()
+                    .build());
+        }
+
         return cacheManager;
     }
 }
\ No newline at end of file
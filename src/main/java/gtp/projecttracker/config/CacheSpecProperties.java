@@ -0,0 +1,34 @@
+package gtp.projecttracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Configuration properties for the application caches.
+ * Binds properties with the prefix "app.cache" from the application configuration.
+ * Each cache can be given its own Caffeine specification (for example
+ * {@code maximumSize=5000,expireAfterWrite=5m}); caches without one use the default spec.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public record CacheSpecProperties(
+        @DefaultValue("maximumSize=5000,expireAfterWrite=5m") String defaultSpec,
+        Map<String, String> specs
+) {
+    public CacheSpecProperties {
+        if (specs == null) {
+            specs = Map.of();
+        }
+    }
+
+    /**
+     * Returns the Caffeine specification configured for a cache.
+     *
+     * @param cacheName The cache name
+     * @return The cache's own spec, or the default spec if none is configured
+     */
+    public String specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaultSpec);
+    }
+}
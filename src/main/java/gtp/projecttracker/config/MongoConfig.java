@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.index.IndexOperations;
@@ -13,8 +14,9 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 /**
  * Configuration class for MongoDB-specific settings.
  * Sets up indexes and other MongoDB configurations required by the application.
- * Currently configures a TTL (time-to-live) index on audit logs to automatically
- * delete old entries after a specified period.
+ * Configures a TTL (time-to-live) index on audit logs to automatically
+ * delete old entries after a specified period, and the compound indexes
+ * backing the filtered, newest-first audit log queries.
  */
 @Configuration
 public class MongoConfig {
@@ -22,6 +24,11 @@ public class MongoConfig {
      * Configures MongoDB indexes for the AuditLog collection.
      * Creates a TTL (time-to-live) index on the timestamp field that automatically
      * deletes audit log entries after 30 days to prevent the collection from growing indefinitely.
+     * <p>
+     * Every audit listing is sorted by {@code (timestamp, _id)} descending, so each filter field
+     * gets a compound index ending in those keys. Pages and keyset cursors are then read in index
+     * order without an in-memory sort, whatever the size of the collection.
+     * </p>
      *
      * @param context MongoDB mapping context
      * @param mongoTemplate Template for MongoDB operations
@@ -30,8 +37,20 @@ public class MongoConfig {
     @Bean
     public IndexOperations auditLogIndexOps(MongoMappingContext context, MongoTemplate mongoTemplate) {
         IndexOperations indexOps = mongoTemplate.indexOps(AuditLog.class);
-        indexOps.ensureIndex(new Index().on("timestamp", org.springframework.data.domain.Sort.Direction.DESC)
+        indexOps.ensureIndex(new Index().on("timestamp", Sort.Direction.DESC)
                 .expire(30L * 24 * 60 * 60)); // 30 days in seconds
+        indexOps.ensureIndex(newestFirst(new Index(), null));
+        indexOps.ensureIndex(newestFirst(new Index(), "entityType"));
+        indexOps.ensureIndex(newestFirst(new Index(), "actorName"));
+        indexOps.ensureIndex(newestFirst(new Index(), "actionType"));
         return indexOps;
     }
+
+    private static Index newestFirst(Index index, String field) {
+        if (field != null) {
+            index.on(field, Sort.Direction.ASC);
+        }
+        return index.on("timestamp", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC);
+    }
 }
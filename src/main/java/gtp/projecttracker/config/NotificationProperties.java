@@ -0,0 +1,23 @@
+package gtp.projecttracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the overdue notification dispatcher.
+ * Binds properties with the prefix "app.notifications.dispatch" from the application configuration.
+ * Controls the size of the event queue, how long events are collected into per-recipient
+ * digests, how many emails share one SMTP connection, the send rate and retry behaviour.
+ */
+@ConfigurationProperties(prefix = "app.notifications.dispatch")
+public record NotificationProperties(
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("30s") Duration digestWindow,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("5") double maxEmailsPerSecond,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("2s") Duration retryBackoff
+) {
+}
@@ -1,35 +1,58 @@
 package gtp.projecttracker.controller;
 
+import gtp.projecttracker.dto.request.audit.AuditLogFilter;
+import gtp.projecttracker.dto.response.CursorPage;
+import gtp.projecttracker.dto.response.audit.ActorActivityResponse;
+import gtp.projecttracker.dto.response.audit.EntityChangeFrequencyResponse;
+import gtp.projecttracker.dto.response.audit.FailedLoginBucketResponse;
 import gtp.projecttracker.model.mongodb.AuditLog;
+import gtp.projecttracker.service.AuditAnalyticsService;
 import gtp.projecttracker.service.AuditService;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 /**
  * REST controller for managing audit logs.
  * Provides endpoints for retrieving audit log data with various filtering options.
  * All endpoints return data in JSON format and are accessible under the /api/v1/logs path.
+ * Listings are paginated or keyset-paginated; full result sets are only available through
+ * the streaming NDJSON export. Aggregated statistics are served under /api/v1/logs/analytics.
  */
 @RestController
 @RequestMapping("/api/v1/logs")
 public class AuditLogController {
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final Duration DEFAULT_ANALYTICS_WINDOW = Duration.ofHours(24);
+
     private final AuditService auditService;
+    private final AuditAnalyticsService auditAnalyticsService;
 
     /**
-     * Constructs an AuditLogController with the required service dependency.
+     * Constructs an AuditLogController with the required service dependencies.
      *
      * @param auditService The service for retrieving and managing audit logs
+     * @param auditAnalyticsService The service computing aggregated audit statistics
      */
     @Autowired
-    public AuditLogController(AuditService auditService) {
+    public AuditLogController(AuditService auditService, AuditAnalyticsService auditAnalyticsService) {
         this.auditService = auditService;
+        this.auditAnalyticsService = auditAnalyticsService;
 
     }
 
@@ -49,24 +72,30 @@ public class AuditLogController {
      * Retrieves audit logs filtered by entity type.
      *
      * @param entityType The type of entity to filter logs by (e.g., "Task", "Project")
-     * @return A list of audit logs for the specified entity type
+     * @param pageable Pagination information, newest entries first by default
+     * @return A page of audit logs for the specified entity type
      */
     @GetMapping("/entity/{entityType}")
     @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
-    public ResponseEntity<List<AuditLog>> getLogsByEntityType(@PathVariable String entityType) {
-        return ResponseEntity.ok(auditService.getAuditLogsByEntityType(entityType));
+    public ResponseEntity<Page<AuditLog>> getLogsByEntityType(
+            @PathVariable String entityType,
+            @PageableDefault(size = 20, sort = "timestamp", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(auditService.getAuditLogsByEntityType(entityType, pageable));
     }
 
     /**
      * Retrieves audit logs filtered by the actor who performed the actions.
      *
      * @param actorName The name of the actor (user) who performed the actions
-     * @return A list of audit logs for the specified actor
+     * @param pageable Pagination information, newest entries first by default
+     * @return A page of audit logs for the specified actor
      */
     @GetMapping("/actor/{actorName}")
     @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
-    public ResponseEntity<List<AuditLog>> getLogsByActor(@PathVariable String actorName) {
-        return ResponseEntity.ok(auditService.getAuditLogsByActor(actorName));
+    public ResponseEntity<Page<AuditLog>> getLogsByActor(
+            @PathVariable String actorName,
+            @PageableDefault(size = 20, sort = "timestamp", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(auditService.getAuditLogsByActor(actorName, pageable));
     }
 
     /**
@@ -74,15 +103,125 @@ public class AuditLogController {
      *
      * @param startDate The start date for the range in string format
      * @param endDate The end date for the range in string format
-     * @return A list of audit logs that occurred within the specified date range
+     * @param pageable Pagination information, newest entries first by default
+     * @return A page of audit logs that occurred within the specified date range
      */
     @GetMapping("/date-range")
     @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
-    public ResponseEntity<List<AuditLog>> getLogsByDateRange(
+    public ResponseEntity<Page<AuditLog>> getLogsByDateRange(
             @RequestParam String startDate,
-            @RequestParam String endDate) {
+            @RequestParam String endDate,
+            @PageableDefault(size = 20, sort = "timestamp", direction = Sort.Direction.DESC) Pageable pageable) {
         return ResponseEntity.ok(
-                auditService.getAuditLogsByDateRange(startDate, endDate)
+                auditService.getAuditLogsByDateRange(startDate, endDate, pageable)
         );
     }
+
+    /**
+     * Retrieves a keyset-paginated list of audit logs, newest first, without counting the
+     * matching entries.
+     *
+     * @param filter Optional entity type, actor, action type and time range criteria
+     * @param cursor The cursor returned with the previous page, or absent for the first page
+     * @param size The page size
+     * @return A page of audit logs and the cursor for the next one
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<CursorPage<AuditLog>> getLogsByCursor(
+            AuditLogFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(auditService.getAuditLogsAfterCursor(filter, cursor, size));
+    }
+
+    /**
+     * Exports the matching audit logs as newline-delimited JSON, newest first. Entries are
+     * streamed to the client as they are read from the database.
+     *
+     * @param filter Optional entity type, actor, action type and time range criteria
+     * @return A streaming response with one JSON document per line
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportLogs(AuditLogFilter filter) {
+        StreamingResponseBody body = out -> auditService.exportAuditLogs(filter, out);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"audit-logs.ndjson\"")
+                .body(body);
+    }
+
+    /**
+     * Retrieves the number of actions each actor performed per hour.
+     *
+     * @param from Start of the window, defaults to 24 hours before {@code to}
+     * @param to End of the window, defaults to the current minute
+     * @param actorName Optional actor to restrict the counts to
+     * @return Actor-hour counts, oldest hour first
+     */
+    @GetMapping("/analytics/actors/hourly")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<List<ActorActivityResponse>> getActorActivityPerHour(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String actorName) {
+        Instant end = windowEnd(to);
+        return ResponseEntity.ok(
+                auditAnalyticsService.getActorActivityPerHour(windowStart(from, end), end, actorName));
+    }
+
+    /**
+     * Retrieves the number of failed logins per IP address and time bucket.
+     *
+     * @param from Start of the window, defaults to 24 hours before {@code to}
+     * @param to End of the window, defaults to the current minute
+     * @param bucketMinutes Width of each time bucket in minutes (1 to 1440)
+     * @param minAttempts Only return buckets with at least this many attempts
+     * @return IP-bucket counts, most attempts first
+     */
+    @GetMapping("/analytics/failed-logins")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<List<FailedLoginBucketResponse>> getFailedLoginsPerIp(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "15") int bucketMinutes,
+            @RequestParam(defaultValue = "1") int minAttempts) {
+        Instant end = windowEnd(to);
+        return ResponseEntity.ok(auditAnalyticsService.getFailedLoginsPerIp(
+                windowStart(from, end), end, Math.clamp(bucketMinutes, 1, 1440), Math.max(1, minAttempts)));
+    }
+
+    /**
+     * Retrieves the entities changed most often.
+     *
+     * @param from Start of the window, defaults to 24 hours before {@code to}
+     * @param to End of the window, defaults to the current minute
+     * @param entityType Optional entity type to restrict the counts to
+     * @param limit The maximum number of entities to return
+     * @return Per-entity change counts, most changed first
+     */
+    @GetMapping("/analytics/entity-changes")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<List<EntityChangeFrequencyResponse>> getEntityChangeFrequency(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(defaultValue = "50") int limit) {
+        Instant end = windowEnd(to);
+        return ResponseEntity.ok(
+                auditAnalyticsService.getEntityChangeFrequency(windowStart(from, end), end, entityType, limit));
+    }
+
+    /**
+     * Defaults to the current minute rather than the current instant, so that repeated
+     * requests for the default window share a cache entry.
+     */
+    private static Instant windowEnd(Instant to) {
+        return to != null ? to : Instant.now().truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private static Instant windowStart(Instant from, Instant end) {
+        return from != null ? from : end.minus(DEFAULT_ANALYTICS_WINDOW);
+    }
 }
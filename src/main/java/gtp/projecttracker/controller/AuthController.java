@@ -172,13 +172,15 @@ public class AuthController {
     }
 
     /**
-     * Handles user logout.
+     * Handles user logout by revoking all tokens previously issued to the user.
      *
+     * @param authentication the current authentication, if a bearer token was supplied
      * @return ResponseEntity with success message (200 OK)
      * @see MessageResponse
      */
     @PostMapping("/logout")
-    public ResponseEntity<?> logout() {
+    public ResponseEntity<?> logout(Authentication authentication) {
+        authService.logout(authentication);
         return ResponseEntity.ok(MessageResponse.of("Logged out successfully"));
     }
 
@@ -22,6 +22,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -88,6 +89,30 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getAllProjects(pageable, includeTasks));
     }
 
+    /**
+     * Retrieves all projects with a given status, including their task counts per status.
+     *
+     * @param status The project status to filter by
+     * @return The matching projects wrapped in a ResponseEntity
+     */
+    @GetMapping("/status/{status}")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<List<ProjectResponse>> getProjectsByStatus(
+            @PathVariable Project.ProjectStatus status) {
+        return ResponseEntity.ok(projectService.getProjectsByStatus(status));
+    }
+
+    /**
+     * Retrieves all projects that have no tasks.
+     *
+     * @return The projects without tasks wrapped in a ResponseEntity
+     */
+    @GetMapping("/without-tasks")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<List<ProjectResponse>> getProjectsWithoutTasks() {
+        return ResponseEntity.ok(projectService.getProjectsWithoutTasks());
+    }
+
     /**
      * Updates a project's information completely (full update).
      *
@@ -1,12 +1,18 @@
 package gtp.projecttracker.controller;
 
+import gtp.projecttracker.dto.response.CursorPage;
 import gtp.projecttracker.dto.response.task.TaskSummaryResponse;
+import gtp.projecttracker.audit.RequestMetadata;
 import gtp.projecttracker.mapper.TaskMapper;
 import gtp.projecttracker.model.jpa.Task;
+import gtp.projecttracker.service.TaskImportService;
 import gtp.projecttracker.service.TaskService;
+import gtp.projecttracker.taskimport.TaskImportFormat;
 import gtp.projecttracker.dto.request.task.AssignTaskRequest;
+import gtp.projecttracker.dto.request.task.BulkCreateTaskRequest;
 import gtp.projecttracker.dto.request.task.CreateTaskRequest;
 import gtp.projecttracker.dto.request.task.UpdateTaskRequest;
+import gtp.projecttracker.dto.response.task.BulkCreateTaskResponse;
 import gtp.projecttracker.dto.response.task.TaskResponse;
 
 import jakarta.validation.Valid;
@@ -16,12 +22,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 /**
@@ -37,16 +46,19 @@ public class TaskController {
     private static final Logger log = LoggerFactory.getLogger(TaskController.class);
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
     private final TaskMapper taskMapper;
 
     /**
      * Constructs a TaskController with the required service and mapper dependencies.
      *
      * @param taskService The service for managing task operations
+     * @param taskImportService The service importing tasks from CSV and NDJSON
      * @param taskMapper The mapper for converting between task entities and DTOs
      */
-    public TaskController(TaskService taskService, TaskMapper taskMapper) {
+    public TaskController(TaskService taskService, TaskImportService taskImportService, TaskMapper taskMapper) {
         this.taskService = taskService;
+        this.taskImportService = taskImportService;
         this.taskMapper = taskMapper;
     }
 
@@ -63,6 +75,22 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getTasks(pageable));
     }
 
+    /**
+     * Retrieves all tasks using keyset pagination ordered by due date.
+     * Suited to deep paging and exports, as no total count is computed.
+     *
+     * @param cursor The cursor returned with the previous page; omit for the first page
+     * @param size The page size (at most 1000)
+     * @return One page of tasks and the cursor for the next page wrapped in a ResponseEntity
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<CursorPage<TaskSummaryResponse>> getAllTasksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(taskService.getTasksAfterCursor(cursor, size));
+    }
+
     /**
      * Creates a new task.
      *
@@ -75,6 +103,45 @@ public class TaskController {
         return ResponseEntity.ok(taskService.saveTask(taskMapper.toEntity(request)));
     }
 
+    /**
+     * Creates up to 5000 tasks in one transaction, inserted in JDBC batches.
+     * Either all tasks are created or, if any is invalid or references a missing
+     * project or assignee, none are.
+     *
+     * @param request The validated list of tasks to create
+     * @return The number and IDs of the created tasks wrapped in a ResponseEntity
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<BulkCreateTaskResponse> createTasks(@Valid @RequestBody BulkCreateTaskRequest request) {
+        return ResponseEntity.ok(taskService.createTasks(request.tasks()));
+    }
+
+    /**
+     * Imports tasks from a CSV body (with a header row) or an NDJSON body, with no limit on
+     * the number of rows. Rows are read as they arrive and committed in chunks, and progress is
+     * streamed back as NDJSON: one line per rejected row, one per committed chunk and a final
+     * summary line. Chunks committed before a failure are kept.
+     *
+     * @param contentType {@code text/csv} or {@code application/x-ndjson}
+     * @param body The rows to import
+     * @return A streaming response with one progress or error event per line
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<StreamingResponseBody> importTasks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        TaskImportFormat format = TaskImportFormat.fromContentType(contentType);
+        String actorName = SecurityContextHolder.getContext().getAuthentication().getName();
+        RequestMetadata request = RequestMetadata.current();
+
+        StreamingResponseBody progress = out -> taskImportService.importTasks(body, format, actorName, request, out);
+        return ResponseEntity.ok()
+                .contentType(TaskImportFormat.NDJSON.mediaType())
+                .body(progress);
+    }
+
     /**
      * Retrieves a task by its unique identifier.
      *
@@ -166,6 +233,20 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getOverdueTasks(pageable));
     }
 
+    /**
+     * Retrieves overdue tasks using keyset pagination ordered by due date.
+     *
+     * @param cursor The cursor returned with the previous page; omit for the first page
+     * @param size The page size (at most 1000)
+     * @return One page of overdue tasks and the cursor for the next page wrapped in a ResponseEntity
+     */
+    @GetMapping("/overdue/cursor")
+    public ResponseEntity<CursorPage<TaskResponse>> getOverdueTasksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(taskService.getOverdueTasksAfterCursor(cursor, size));
+    }
+
     /**
      * Test endpoint for triggering overdue task notifications.
      * Used for testing the event publishing mechanism.
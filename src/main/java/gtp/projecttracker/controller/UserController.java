@@ -1,5 +1,6 @@
 package gtp.projecttracker.controller;
 
+import gtp.projecttracker.dto.response.CursorPage;
 import gtp.projecttracker.dto.response.task.TaskSummaryResponse;
 import gtp.projecttracker.dto.response.user.UserResponse;
 import gtp.projecttracker.model.jpa.User;
@@ -15,6 +16,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
@@ -102,8 +104,29 @@ public class UserController {
     }
 
     @GetMapping("/{id}/tasks")
-    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER') or @securityUtil.isTaskOwner(#id)")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER') or @securityUtil.isCurrentUser(#id)")
     public ResponseEntity<Page<TaskSummaryResponse>> getAssignedTasks(@PathVariable UUID id, @PageableDefault(size = 20, sort = "dueDate") Pageable pageable) {
         return ResponseEntity.ok(taskService.getTasksByUserId(id, pageable));
     }
+
+    /**
+     * Retrieves the tasks assigned to a user using keyset pagination ordered by due date.
+     * <p>
+     * Unlike {@link #getAssignedTasks}, no total count is computed and the cost of a page
+     * does not grow with its depth.
+     * </p>
+     *
+     * @param id the user's ID
+     * @param cursor the cursor returned with the previous page; omit for the first page
+     * @param size the page size (at most 1000)
+     * @return ResponseEntity containing one page of tasks and the cursor for the next page
+     */
+    @GetMapping("/{id}/tasks/cursor")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER') or @securityUtil.isCurrentUser(#id)")
+    public ResponseEntity<CursorPage<TaskSummaryResponse>> getAssignedTasksByCursor(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(taskService.getTasksByUserIdAfterCursor(id, cursor, size));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package gtp.projecttracker.controller;
+
+import gtp.projecttracker.dto.response.workload.TeamWorkloadResponse;
+import gtp.projecttracker.dto.response.workload.WorkloadResponse;
+import gtp.projecttracker.workload.WorkloadStatistics;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for workload statistics.
+ * Serves task counts by status and priority per user, per project and for the whole team
+ * from the in-memory {@link WorkloadStatistics}, under the /api/v1/workload path.
+ * Users or projects without tasks are reported with zero counts.
+ */
+@RestController
+@RequestMapping("/api/v1/workload")
+@PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_MANAGER')")
+public class WorkloadController {
+    private static final int MAX_TOP_USERS = 100;
+
+    private final WorkloadStatistics workloadStatistics;
+
+    /**
+     * Constructs a WorkloadController with the workload statistics it serves.
+     *
+     * @param workloadStatistics The in-memory workload statistics
+     */
+    public WorkloadController(WorkloadStatistics workloadStatistics) {
+        this.workloadStatistics = workloadStatistics;
+    }
+
+    /**
+     * Retrieves the workload of the whole team.
+     *
+     * @return The overall and unassigned counts and one entry per assignee, most open tasks first
+     */
+    @GetMapping("/team")
+    public ResponseEntity<TeamWorkloadResponse> getTeamWorkload() {
+        return ResponseEntity.ok(workloadStatistics.getTeamWorkload());
+    }
+
+    /**
+     * Retrieves the users with the most open tasks.
+     *
+     * @param limit The maximum number of users to return, capped at {@value #MAX_TOP_USERS}
+     * @return The most loaded users, most open tasks first
+     */
+    @GetMapping("/users/top")
+    public ResponseEntity<List<WorkloadResponse>> getTopLoadedUsers(
+            @RequestParam(defaultValue = "10") int limit) {
+        int bounded = Math.clamp(limit, 1, MAX_TOP_USERS);
+        return ResponseEntity.ok(workloadStatistics.getTopLoadedUsers(bounded));
+    }
+
+    /**
+     * Retrieves the workload of a user.
+     *
+     * @param id The ID of the user
+     * @return The user's task counts
+     */
+    @GetMapping("/users/{id}")
+    public ResponseEntity<WorkloadResponse> getUserWorkload(@PathVariable UUID id) {
+        return ResponseEntity.ok(workloadStatistics.getUserWorkload(id));
+    }
+
+    /**
+     * Retrieves the workload of a project.
+     *
+     * @param id The ID of the project
+     * @return The project's task counts
+     */
+    @GetMapping("/projects/{id}")
+    public ResponseEntity<WorkloadResponse> getProjectWorkload(@PathVariable UUID id) {
+        return ResponseEntity.ok(workloadStatistics.getProjectWorkload(id));
+    }
+}
@@ -0,0 +1,26 @@
+package gtp.projecttracker.dto.request.audit;
+
+import gtp.projecttracker.model.mongodb.AuditLog.ActionType;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+
+/**
+ * Optional criteria for audit log listings and exports, bound from query parameters.
+ * Criteria that are null are not applied.
+ *
+ * @param entityType Only entries for this entity type
+ * @param actorName Only entries by this actor
+ * @param actionType Only entries of this action type
+ * @param from Only entries logged at or after this instant
+ * @param to Only entries logged before this instant
+ */
+public record AuditLogFilter(
+        String entityType,
+        String actorName,
+        ActionType actionType,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+) {
+}
@@ -0,0 +1,20 @@
+package gtp.projecttracker.dto.request.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request to create many tasks in one transaction.
+ *
+ * @param tasks The tasks to create, each validated like a single {@link CreateTaskRequest}
+ */
+public record BulkCreateTaskRequest(
+        @NotEmpty(message = "At least one task is required")
+        @Size(max = BulkCreateTaskRequest.MAX_TASKS, message = "At most " + BulkCreateTaskRequest.MAX_TASKS + " tasks can be created at once")
+        List<@Valid CreateTaskRequest> tasks
+) {
+    public static final int MAX_TASKS = 5000;
+}
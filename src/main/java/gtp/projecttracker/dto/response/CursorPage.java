@@ -0,0 +1,30 @@
+package gtp.projecttracker.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * A single page of a keyset-paginated listing.
+ * <p>
+ * Unlike {@code Page}, no total count is computed. Clients request the next page by passing
+ * {@code nextCursor} back unchanged; it is absent on the last page.
+ * </p>
+ *
+ * @param content The items on this page
+ * @param size The number of items on this page
+ * @param nextCursor Opaque cursor for the next page, or null if this is the last page
+ * @param hasNext Whether another page follows
+ * @param <T> The item type
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorPage<T> of(List<T> content, String nextCursor) {
+        return new CursorPage<>(content, content.size(), nextCursor, nextCursor != null);
+    }
+}
@@ -0,0 +1,13 @@
+package gtp.projecttracker.dto.response.audit;
+
+import java.time.Instant;
+
+/**
+ * Number of audited actions one actor performed within one hour.
+ */
+public record ActorActivityResponse(
+        String actorName,
+        Instant hour,
+        long actions
+) {
+}
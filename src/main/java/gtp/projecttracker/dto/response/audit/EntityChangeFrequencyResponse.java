@@ -0,0 +1,17 @@
+package gtp.projecttracker.dto.response.audit;
+
+import java.time.Instant;
+
+/**
+ * Number of audited changes to one entity, by action type.
+ */
+public record EntityChangeFrequencyResponse(
+        String entityType,
+        String entityId,
+        long changes,
+        long creates,
+        long updates,
+        long deletes,
+        Instant lastChanged
+) {
+}
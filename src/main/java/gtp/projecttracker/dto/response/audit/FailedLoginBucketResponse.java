@@ -0,0 +1,13 @@
+package gtp.projecttracker.dto.response.audit;
+
+import java.time.Instant;
+
+/**
+ * Number of failed logins from one IP address within one time bucket.
+ */
+public record FailedLoginBucketResponse(
+        String ipAddress,
+        Instant bucketStart,
+        long attempts
+) {
+}
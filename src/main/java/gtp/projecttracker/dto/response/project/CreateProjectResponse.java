@@ -22,10 +22,11 @@ public record CreateProjectResponse (
                 project.getId(),
                 project.getName(),
                 project.getDescription(),
-                project.getStartDate(),
                 project.getDeadline(),
+                project.getStartDate(),
                 project.getStatus().name(),
                 project.getTasks().size(),
+                ProjectResponse.countByStatus(project),
                 project.getCreatedAt(),
                 project.getUpdatedAt()
         );
@@ -1,9 +1,12 @@
 package gtp.projecttracker.dto.response.project;
 
 import gtp.projecttracker.model.jpa.Project;
+import gtp.projecttracker.model.jpa.Task;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
 
 public record ProjectResponse (
@@ -14,6 +17,7 @@ public record ProjectResponse (
         LocalDate startDate,
         String status,
         int taskCount,
+        Map<Task.Status, Long> taskCountsByStatus,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
@@ -22,15 +26,31 @@ public record ProjectResponse (
                 project.getId(),
                 project.getName(),
                 project.getDescription(),
-                project.getStartDate(),
                 project.getDeadline(),
+                project.getStartDate(),
                 project.getStatus().name(),
                 project.getTasks().size(),
+                countByStatus(project),
                 project.getCreatedAt(),
                 project.getUpdatedAt()
         );
     }
 
+    /**
+     * Counts the tasks of an entity whose task collection is already loaded (or new).
+     * Listing paths should use {@code ProjectTaskSummary} instead, which counts in the database.
+     */
+    public static Map<Task.Status, Long> countByStatus(Project project) {
+        Map<Task.Status, Long> counts = new EnumMap<>(Task.Status.class);
+        for (Task.Status status : Task.Status.values()) {
+            counts.put(status, 0L);
+        }
+        for (Task task : project.getTasks()) {
+            counts.merge(task.getStatus(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
     public ProjectResponse withTasks(Object o) {
         return new ProjectResponse(
                 id,
@@ -40,6 +60,7 @@ public record ProjectResponse (
                 startDate,
                 status,
                 taskCount,
+                taskCountsByStatus,
                 createdAt,
                 updatedAt
         );
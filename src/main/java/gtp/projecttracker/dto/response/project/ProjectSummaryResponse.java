@@ -1,14 +1,20 @@
 package gtp.projecttracker.dto.response.project;
 
+import gtp.projecttracker.dto.response.task.TaskSummaryResponse;
 import gtp.projecttracker.model.jpa.Project.ProjectStatus;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 import java.time.LocalDateTime;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ProjectSummaryResponse(
         UUID id,
         String name,
-        ProjectStatus status
+        ProjectStatus status,
+        List<TaskSummaryResponse> tasks
 ) {
 }
\ No newline at end of file
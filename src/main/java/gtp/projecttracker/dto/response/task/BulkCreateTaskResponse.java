@@ -0,0 +1,16 @@
+package gtp.projecttracker.dto.response.task;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a bulk task creation.
+ *
+ * @param created Number of tasks created
+ * @param taskIds IDs of the created tasks, in request order
+ */
+public record BulkCreateTaskResponse(
+        int created,
+        List<UUID> taskIds
+) {
+}
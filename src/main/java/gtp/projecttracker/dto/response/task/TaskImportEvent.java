@@ -0,0 +1,58 @@
+package gtp.projecttracker.dto.response.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * One line of the NDJSON response streamed while tasks are imported. Fields that do not
+ * apply to the event type are omitted.
+ *
+ * @param type What the line reports
+ * @param importId The ID of the import, also used as the entity ID of its audit entries
+ * @param row The 1-based row a {@link Type#ERROR} refers to
+ * @param message Why a row was rejected or the import failed
+ * @param chunk The number of chunks committed so far
+ * @param rowsRead The number of rows read so far
+ * @param created The number of tasks committed so far
+ * @param rejected The number of rows rejected so far
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskImportEvent(
+        Type type,
+        UUID importId,
+        Integer row,
+        String message,
+        Integer chunk,
+        Integer rowsRead,
+        Integer created,
+        Integer rejected
+) {
+    public enum Type {
+        /** A row was rejected; the import continues. */
+        ERROR,
+        /** A chunk of tasks was committed. */
+        PROGRESS,
+        /** All rows were read; this is the last line. */
+        COMPLETED,
+        /** The import stopped early; chunks reported before this line remain committed. */
+        FAILED
+    }
+
+    public static TaskImportEvent rowError(int row, String message) {
+        return new TaskImportEvent(Type.ERROR, null, row, message, null, null, null, null);
+    }
+
+    public static TaskImportEvent progress(UUID importId, int chunk, int rowsRead, int created, int rejected) {
+        return new TaskImportEvent(Type.PROGRESS, importId, null, null, chunk, rowsRead, created, rejected);
+    }
+
+    public static TaskImportEvent completed(UUID importId, int chunks, int rowsRead, int created, int rejected) {
+        return new TaskImportEvent(Type.COMPLETED, importId, null, null, chunks, rowsRead, created, rejected);
+    }
+
+    public static TaskImportEvent failed(UUID importId, String message, int chunks, int rowsRead, int created,
+                                         int rejected) {
+        return new TaskImportEvent(Type.FAILED, importId, null, message, chunks, rowsRead, created, rejected);
+    }
+}
@@ -0,0 +1,16 @@
+package gtp.projecttracker.dto.response.workload;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Workload of the whole team: the overall counts, the unassigned tasks and one entry per
+ * assignee, most open tasks first.
+ */
+public record TeamWorkloadResponse(
+        WorkloadResponse total,
+        WorkloadResponse unassigned,
+        List<WorkloadResponse> members,
+        LocalDateTime recomputedAt
+) {
+}
@@ -0,0 +1,23 @@
+package gtp.projecttracker.dto.response.workload;
+
+import gtp.projecttracker.model.jpa.Task.Priority;
+import gtp.projecttracker.model.jpa.Task.Status;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Task counts of a user, a project or the whole team. {@code openTasks} counts every task
+ * that is not {@code DONE}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WorkloadResponse(
+        UUID id,
+        long totalTasks,
+        long openTasks,
+        Map<Status, Long> tasksByStatus,
+        Map<Priority, Long> tasksByPriority
+) {
+}
@@ -2,6 +2,10 @@ package gtp.projecttracker.event;
 
 import java.util.UUID;
 
+/**
+ * Published when a task's assignee changes. A null {@code taskId} means all tasks of
+ * {@code oldAssigneeId} were unassigned.
+ */
 public record TaskAssignmentEvent(
         UUID taskId,
         UUID projectId,
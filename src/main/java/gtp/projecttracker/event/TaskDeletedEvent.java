@@ -0,0 +1,12 @@
+package gtp.projecttracker.event;
+
+import java.util.UUID;
+
+/**
+ * Published when tasks are deleted. A null {@code taskId} means all tasks of the project
+ * were deleted.
+ */
+public record TaskDeletedEvent(
+        UUID taskId,
+        UUID projectId
+) {}
@@ -1,6 +1,16 @@
 package gtp.projecttracker.event;
 
-import gtp.projecttracker.model.jpa.Task;
+import gtp.projecttracker.repository.jpa.projection.OverdueTaskView;
 
-public record TaskOverdueEvent(Task task, int daysOverdue) {
-}
\ No newline at end of file
+import java.time.LocalDate;
+
+/**
+ * Published once per overdue task and day, after the notification was claimed in the ledger.
+ *
+ * @param task The overdue task
+ * @param daysOverdue Days between the due date and {@code notificationDay}
+ * @param notificationDay The day the notification was claimed for, needed to release the claim
+ *                        if the email is never sent
+ */
+public record TaskOverdueEvent(OverdueTaskView task, int daysOverdue, LocalDate notificationDay) {
+}
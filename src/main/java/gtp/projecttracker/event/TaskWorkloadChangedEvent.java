@@ -0,0 +1,15 @@
+package gtp.projecttracker.event;
+
+import gtp.projecttracker.workload.TaskWorkload;
+
+import java.util.UUID;
+
+/**
+ * Published when a task is created, deleted, or changes assignee, project, status or priority.
+ * {@code before} is null for a new task and {@code after} is null for a deleted one.
+ */
+public record TaskWorkloadChangedEvent(
+        UUID taskId,
+        TaskWorkload before,
+        TaskWorkload after
+) {}
@@ -3,15 +3,29 @@ package gtp.projecttracker.event;
 import java.util.UUID;
 
 /**
- * Published when user data changes, with flags indicating
+ * Published when a user is created or user data changes, with flags indicating
  * which caches need invalidation.
  */
 public record UserUpdatedEvent(
         UUID userId,
         String email,
+        boolean created,
         boolean emailChanged,
         boolean roleChanged
 ) {
+    /**
+     * Factory method for newly registered users, including first OAuth2 logins
+     */
+    public static UserUpdatedEvent created(UUID userId, String email) {
+        return new UserUpdatedEvent(
+                userId,
+                email,
+                true,
+                false,
+                false
+        );
+    }
+
     /**
      * Factory method for profile updates
      */
@@ -19,6 +33,7 @@ public record UserUpdatedEvent(
         return new UserUpdatedEvent(
                 userId,
                 email,
+                false,
                 true,
                 false
         );
@@ -1,9 +1,9 @@
 package gtp.projecttracker.exception;
 
+import gtp.projecttracker.audit.AuditEvent;
+import gtp.projecttracker.audit.AuditLogWriter;
 import gtp.projecttracker.dto.response.ErrorResponse;
-import gtp.projecttracker.model.mongodb.AuditLog;
 import gtp.projecttracker.model.mongodb.AuditLog.ActionType;
-import gtp.projecttracker.repository.mongodb.AuditLogRepository;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
@@ -18,18 +18,16 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.context.request.WebRequest;
 
-import java.time.Instant;
-
 /**
  * Handles authentication and authorisation exceptions across the application
  */
 @RestControllerAdvice
 public class AuthExceptionHandler {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
 
-    public AuthExceptionHandler(AuditLogRepository auditLogRepository) {
-        this.auditLogRepository = auditLogRepository;
+    public AuthExceptionHandler(AuditLogWriter auditLogWriter) {
+        this.auditLogWriter = auditLogWriter;
     }
 
     // Unified security exception handler
@@ -105,19 +103,11 @@ public class AuthExceptionHandler {
     }
 
     private void logSecurityEvent(ActionType actionType, String message) {
-        HttpServletRequest request = getCurrentRequest();
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-
-        AuditLog log = new AuditLog();
-        log.setActionType(actionType);
-        log.setTimestamp(Instant.now());
-        log.setActorName(auth != null ? auth.getName() : "anonymous");
-        log.setIpAddress(request.getRemoteAddr());
-        log.setUserAgent(request.getHeader("User-Agent"));
-        log.setEndpoint(request.getRequestURI());
-        log.setPayload(message);
-
-        auditLogRepository.save(log);
+        auditLogWriter.submit(AuditEvent.ofSecurity(
+                actionType,
+                auth != null ? auth.getName() : "anonymous",
+                message));
     }
 
     private HttpServletRequest getCurrentRequest() {
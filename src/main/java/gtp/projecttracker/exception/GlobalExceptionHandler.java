@@ -78,6 +78,17 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ErrorResponse.of(
+                        HttpStatus.BAD_REQUEST.value(),
+                        "Invalid Cursor",
+                        ex.getMessage(),
+                        request.getDescription(false)
+                ));
+    }
+
     @ExceptionHandler(DeveloperAlreadyExistsException.class)
     public ResponseEntity<ErrorResponse> handleDeveloperExists(DeveloperAlreadyExistsException ex, WebRequest request) {
         return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -2,8 +2,16 @@ package gtp.projecttracker.listener;
 
 import gtp.projecttracker.config.CacheConfig;
 
+import gtp.projecttracker.cache.TaskResponseCache;
 import gtp.projecttracker.event.ProjectUpdatedEvent;
+import gtp.projecttracker.event.TaskAssignmentEvent;
+import gtp.projecttracker.event.TaskDeletedEvent;
+import gtp.projecttracker.event.TaskStatusChangedEvent;
+import gtp.projecttracker.event.TaskUpdatedEvent;
+import gtp.projecttracker.event.TaskWorkloadChangedEvent;
 import gtp.projecttracker.event.UserUpdatedEvent;
+import gtp.projecttracker.security.jwt.JwtAuthenticationCache;
+import gtp.projecttracker.workload.TaskWorkload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -11,26 +19,116 @@ import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Objects;
+import java.util.UUID;
+
 @Component
 public class CacheEvictionListener {
     private final CacheManager cacheManager;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TaskResponseCache taskResponseCache;
 
     private static final Logger log = LoggerFactory.getLogger(CacheEvictionListener.class);
 
-    public CacheEvictionListener(@Qualifier("cacheManager") CacheManager cacheManager) {
+    public CacheEvictionListener(@Qualifier("cacheManager") CacheManager cacheManager,
+                                 JwtAuthenticationCache jwtAuthenticationCache,
+                                 TaskResponseCache taskResponseCache) {
         this.cacheManager = cacheManager;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.taskResponseCache = taskResponseCache;
     }
 
     @TransactionalEventListener
     public void handleProjectChange(ProjectUpdatedEvent event) {
         cacheManager.getCache(CacheConfig.CACHE_PROJECTS).evict(event.projectId());
+        cacheManager.getCache(CacheConfig.CACHE_PROJECT_LISTS).clear();
+        if (event.nameChanged()) {
+            // Task responses embed the project name
+            taskResponseCache.clear();
+        }
         log.debug("Evicted project {} from cache", event.projectId());
     }
 
     @TransactionalEventListener
+    public void handleTaskUpdate(TaskUpdatedEvent event) {
+        taskResponseCache.evict(event.taskId());
+        log.debug("Evicted task {} from cache", event.taskId());
+    }
+
+    @TransactionalEventListener
+    public void handleTaskStatusChange(TaskStatusChangedEvent event) {
+        taskResponseCache.evict(event.taskId());
+        log.debug("Evicted task {} from cache after status change", event.taskId());
+    }
+
+    @TransactionalEventListener
+    public void handleTaskAssignment(TaskAssignmentEvent event) {
+        if (event.taskId() == null) {
+            taskResponseCache.clear();
+            log.debug("Cleared task cache after bulk reassignment from user {}", event.oldAssigneeId());
+            return;
+        }
+        taskResponseCache.evict(event.taskId());
+        log.debug("Evicted task {} from cache after reassignment", event.taskId());
+    }
+
+    @TransactionalEventListener
+    public void handleTaskDeletion(TaskDeletedEvent event) {
+        if (event.taskId() == null) {
+            taskResponseCache.clear();
+            evictProjectTaskCounts(event.projectId());
+            log.debug("Cleared task cache after deleting tasks of project {}", event.projectId());
+            return;
+        }
+        taskResponseCache.evict(event.taskId());
+        log.debug("Evicted deleted task {} from cache", event.taskId());
+    }
+
+    /**
+     * Cached project responses include task counts by status. They are evicted whenever a task
+     * is created, deleted, or moves between projects or statuses, including bulk creates and imports.
+     */
+    @TransactionalEventListener
+    public void handleTaskWorkloadChange(TaskWorkloadChangedEvent event) {
+        TaskWorkload before = event.before();
+        TaskWorkload after = event.after();
+        if (before != null && after != null
+                && Objects.equals(before.projectId(), after.projectId())
+                && before.status() == after.status()) {
+            return;
+        }
+        if (before != null) {
+            evictProjectTaskCounts(before.projectId());
+        }
+        if (after != null && (before == null || !Objects.equals(before.projectId(), after.projectId()))) {
+            evictProjectTaskCounts(after.projectId());
+        }
+    }
+
+    private void evictProjectTaskCounts(UUID projectId) {
+        if (projectId == null) {
+            return;
+        }
+        cacheManager.getCache(CacheConfig.CACHE_PROJECTS).evict(projectId);
+        cacheManager.getCache(CacheConfig.CACHE_PROJECT_LISTS).clear();
+        log.debug("Evicted task counts of project {} from cache", projectId);
+    }
+
+    /**
+     * Runs immediately when published outside a transaction, as the OAuth2 login handlers do.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleUserChange(UserUpdatedEvent event) {
-        cacheManager.getCache(CacheConfig.CACHE_USERS).evict(event.userId());
-        cacheManager.getCache(CacheConfig.CACHE_AUTH).evict(event.email());
+        if (event.requiresAuthEviction()) {
+            jwtAuthenticationCache.evictUser(event.email());
+        }
+        // Both user caches are keyed by email
+        cacheManager.getCache(CacheConfig.CACHE_USERS).evict(event.email());
+        cacheManager.getCache(CacheConfig.CACHE_USER_DETAILS).evict(event.email());
+        if (!event.created()) {
+            // Task responses embed the assignee name; a new user has no tasks yet
+            taskResponseCache.clear();
+        }
         log.debug("Evicted user {} and auth data from cache", event.userId());
     }
 }
@@ -0,0 +1,52 @@
+package gtp.projecttracker.listener;
+
+import gtp.projecttracker.event.TaskAssignmentEvent;
+import gtp.projecttracker.event.TaskDeletedEvent;
+import gtp.projecttracker.event.TaskWorkloadChangedEvent;
+import gtp.projecttracker.workload.WorkloadStatistics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps {@link WorkloadStatistics} in step with committed task changes.
+ */
+@Component
+public class WorkloadStatisticsListener {
+    private static final Logger log = LoggerFactory.getLogger(WorkloadStatisticsListener.class);
+
+    private final WorkloadStatistics workloadStatistics;
+
+    public WorkloadStatisticsListener(WorkloadStatistics workloadStatistics) {
+        this.workloadStatistics = workloadStatistics;
+    }
+
+    @TransactionalEventListener
+    public void handleWorkloadChange(TaskWorkloadChangedEvent event) {
+        workloadStatistics.apply(event.before(), event.after());
+    }
+
+    @TransactionalEventListener
+    public void handleTaskAssignment(TaskAssignmentEvent event) {
+        if (event.taskId() == null) {
+            workloadStatistics.unassignAll(event.oldAssigneeId());
+            log.debug("Moved workload of user {} to unassigned", event.oldAssigneeId());
+        }
+    }
+
+    /**
+     * Deleting all tasks of a project changes the counts of every assignee involved, which the
+     * event does not carry, so the statistics are rebuilt off the request thread.
+     */
+    @Async
+    @TransactionalEventListener
+    public void handleTaskDeletion(TaskDeletedEvent event) {
+        if (event.taskId() == null) {
+            log.debug("Recomputing workload statistics after deleting tasks of project {}", event.projectId());
+            workloadStatistics.recompute();
+        }
+    }
+}
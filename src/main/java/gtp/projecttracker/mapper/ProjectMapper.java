@@ -2,10 +2,12 @@ package gtp.projecttracker.mapper;
 
 import gtp.projecttracker.dto.request.project.UpdateProjectRequest;
 import gtp.projecttracker.dto.response.project.ProjectSummaryResponse;
+import gtp.projecttracker.dto.response.task.TaskSummaryResponse;
 import gtp.projecttracker.model.jpa.Project;
 import gtp.projecttracker.model.jpa.Project.ProjectStatus;
 import gtp.projecttracker.dto.request.project.CreateProjectRequest;
 import gtp.projecttracker.dto.response.project.ProjectResponse;
+import gtp.projecttracker.repository.jpa.projection.ProjectTaskSummary;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -26,22 +28,31 @@ public class ProjectMapper {
         return project;
     }
 
+    /**
+     * Maps an entity whose task collection is new or already initialized.
+     * For persisted projects prefer {@link #toResponse(ProjectTaskSummary)}, which does not load tasks.
+     */
     public ProjectResponse toResponse(Project entity) {
+        return ProjectResponse.fromEntity(entity);
+    }
+
+    public ProjectResponse toResponse(ProjectTaskSummary summary) {
         return new ProjectResponse(
-                entity.getId(),
-                entity.getName(),
-                entity.getDescription(),
-                entity.getStartDate(),
-                entity.getDeadline(),
-                entity.getStatus().name(),
-                entity.getTasks().size(),
-                entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                summary.id(),
+                summary.name(),
+                summary.description(),
+                summary.deadline(),
+                summary.startDate(),
+                summary.status().name(),
+                Math.toIntExact(summary.taskCount()),
+                summary.taskCountsByStatus(),
+                summary.createdAt(),
+                summary.updatedAt()
         );
     }
 
-    public List<ProjectResponse> toResponseList(List<Project> entities) {
-        return entities.stream()
+    public List<ProjectResponse> toResponseList(List<ProjectTaskSummary> summaries) {
+        return summaries.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
@@ -66,10 +77,15 @@ public class ProjectMapper {
     }
 
     public ProjectSummaryResponse toSummaryResponse(Project project) {
+        return toSummaryResponse(project, null);
+    }
+
+    public ProjectSummaryResponse toSummaryResponse(Project project, List<TaskSummaryResponse> tasks) {
         return new ProjectSummaryResponse(
                 project.getId(),
                 project.getName(),
-                project.getStatus()
+                project.getStatus(),
+                tasks
         );
     }
 }
@@ -0,0 +1,47 @@
+package gtp.projecttracker.model.jpa;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Entity class recording the last day an overdue notification was sent for a task.
+ *
+ * One row is kept per task and is only ever moved forward in time, which lets several
+ * application instances agree on who sends a task's notification for a given day.
+ */
+@Entity
+@Table(name = "notification_log")
+public class NotificationLog {
+    @Id
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(name = "last_sent", nullable = false)
+    private LocalDate lastSent;
+
+    public NotificationLog() {
+    }
+
+    public NotificationLog(UUID taskId, LocalDate lastSent) {
+        this.taskId = taskId;
+        this.lastSent = lastSent;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(UUID taskId) {
+        this.taskId = taskId;
+    }
+
+    public LocalDate getLastSent() {
+        return lastSent;
+    }
+
+    public void setLastSent(LocalDate lastSent) {
+        this.lastSent = lastSent;
+    }
+}
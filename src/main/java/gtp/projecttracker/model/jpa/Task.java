@@ -20,14 +20,17 @@ import java.util.UUID;
         name = "tasks",
         indexes = {
                 @Index(name = "idx_tasks_duedate", columnList = "dueDate"),
-                @Index(name = "idx_tasks_status", columnList = "status")
+                @Index(name = "idx_tasks_status", columnList = "status"),
+                @Index(name = "idx_tasks_duedate_id", columnList = "dueDate, id"),
+                @Index(name = "idx_tasks_assignee_duedate_id", columnList = "user_id, dueDate, id")
         }
 )
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
-    @Column(unique = true, nullable = false)
+    // Generated in memory on persist, so inserts need no round trip for the key and can be batched
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(nullable = false)
     private UUID id;
 
     @NotBlank
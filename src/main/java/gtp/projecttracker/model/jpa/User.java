@@ -2,7 +2,7 @@ package gtp.projecttracker.model.jpa;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
@@ -20,7 +20,7 @@ import java.util.*;
 @Table(name = "users")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.UUID)
     @Column(unique = true, nullable = false)
     private UUID id;
 
@@ -46,8 +46,11 @@ public class User {
     @Column(name = "skill")
     private Set<String> skills = new HashSet<>();
 
-    @Formula("(SELECT COUNT(*) FROM tasks t WHERE t.user_id = id)")
-    Integer taskCount;
+    // Maintained with bulk updates by the task operations and reconciled periodically; never
+    // written from the entity so that saving a user cannot overwrite a concurrent adjustment.
+    @Column(name = "task_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    Integer taskCount = 0;
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -205,7 +208,7 @@ public class User {
 
     /**
      * Gets the count of tasks assigned to this developer.
-     * This value is calculated by a database formula.
+     * This value is a counter maintained by the task operations.
      *
      * @return The number of tasks assigned to this developer
      */
@@ -215,7 +218,7 @@ public class User {
 
     /**
      * Sets the task count for this developer.
-     * This method is typically not used directly as the count is calculated by a database formula.
+     * Changes made through this method are only written when the user is first inserted.
      *
      * @param taskCount The task counts to set
      */
@@ -1,5 +1,9 @@
 package gtp.projecttracker.model.mongodb;
 
+import gtp.projecttracker.audit.AuditPayloadCodec;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -27,7 +31,9 @@ public class AuditLog {
     private String entityId;
     private Instant timestamp = Instant.now();
     private String actorName;
-    private String payload;
+    @JsonSerialize(using = AuditPayloadCodec.Serializer.class)
+    @JsonDeserialize(using = AuditPayloadCodec.Deserializer.class)
+    private Object payload;
 
     // Security-specific fields
     private String ipAddress;
@@ -166,10 +172,14 @@ public class AuditLog {
     /**
      * Gets the additional payload data associated with the audited action.
      * This typically contains details about the changes made to the entity.
+     * <p>
+     * Depending on how it was stored this is a text message (or, for older entries, JSON text),
+     * a BSON subdocument, or gzipped JSON bytes; see {@link AuditPayloadCodec}.
+     * </p>
      *
      * @return The payload data
      */
-    public String getPayload() {
+    public Object getPayload() {
         return payload;
     }
 
@@ -178,7 +188,7 @@ public class AuditLog {
      *
      * @param payload The payload data to set
      */
-    public void setPayload(String payload) {
+    public void setPayload(Object payload) {
         this.payload = payload;
     }
 
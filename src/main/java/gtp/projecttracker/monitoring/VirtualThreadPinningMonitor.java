@@ -0,0 +1,146 @@
+package gtp.projecttracker.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, which happens when they
+ * block inside a {@code synchronized} block or a native frame (for example in a JDBC driver or
+ * the mail transport). A pinned virtual thread occupies one of the few carrier threads for the
+ * whole blocking call, so frequent pinning erodes the benefit of virtual threads.
+ * <p>
+ * Pinning is observed through an in-process JFR stream of {@code jdk.VirtualThreadPinned} events
+ * longer than {@code app.threads.pinned-threshold}, and recorded in the
+ * {@code threads.virtual.pinned} timer, tagged with the call site. The site is the innermost frame
+ * outside the JDK, i.e. the library or application method that blocked. The first event of each
+ * site is logged with its stack. Tag cardinality is capped at {@value #MAX_SITES} sites; further
+ * sites are recorded as {@code other}. Failed virtual thread submissions are counted in
+ * {@code threads.virtual.submit.failed}.
+ * </p>
+ * <p>
+ * Only active when {@code spring.threads.virtual.enabled} is true.
+ * </p>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final int MAX_SITES = 100;
+    private static final int LOGGED_FRAMES = 15;
+    private static final String OTHER_SITE = "other";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Counter submitFailedCounter;
+    private final Map<String, Timer> pinnedTimers = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    /**
+     * Constructs a new VirtualThreadPinningMonitor.
+     *
+     * @param meterRegistry Registry for the pinning metrics
+     * @param threshold Minimum pinned duration to record
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.threads.pinned-threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.submitFailedCounter = Counter.builder("threads.virtual.submit.failed")
+                .description("Virtual threads that could not be started or unparked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the JFR event stream.
+     */
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.enable(SUBMIT_FAILED_EVENT);
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailedCounter.increment());
+        stream.startAsync();
+        log.info("Monitoring virtual thread pinning longer than {}", threshold);
+    }
+
+    /**
+     * Stops the JFR event stream.
+     */
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = pinningSite(event.getStackTrace());
+        Timer timer = pinnedTimers.get(site);
+        if (timer == null) {
+            if (pinnedTimers.size() >= MAX_SITES) {
+                site = OTHER_SITE;
+            }
+            timer = pinnedTimers.computeIfAbsent(site, newSite -> {
+                log.warn("Virtual thread pinned for {} ms at {}:\n{}",
+                        event.getDuration().toMillis(), newSite, formatStack(event.getStackTrace()));
+                return Timer.builder("threads.virtual.pinned")
+                        .description("Time virtual threads spent blocked while pinned to a carrier thread")
+                        .tag("site", newSite)
+                        .register(meterRegistry);
+            });
+        }
+        timer.record(event.getDuration());
+    }
+
+    private static String pinningSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "jdk";
+    }
+
+    private static String formatStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t<no stack trace>";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "."
+                        + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,56 @@
+package gtp.projecttracker.notification;
+
+import gtp.projecttracker.repository.jpa.NotificationLogRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * {@link NotificationLedger} backed by the {@code notification_log} table.
+ * <p>
+ * A claim is a conditional upsert that only succeeds when the stored date is older than the
+ * requested day, so at most one instance sends a task's notification per day and restarts do not
+ * cause duplicate emails. Rows from previous days no longer affect any claim and are purged daily,
+ * keeping the table bounded by the number of tasks notified in a day.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.ledger", havingValue = "database")
+public class DatabaseNotificationLedger implements NotificationLedger {
+    private static final Logger log = LoggerFactory.getLogger(DatabaseNotificationLedger.class);
+
+    private final NotificationLogRepository notificationLogRepository;
+
+    public DatabaseNotificationLedger(NotificationLogRepository notificationLogRepository) {
+        this.notificationLogRepository = notificationLogRepository;
+    }
+
+    @Override
+    @Transactional
+    public boolean tryClaim(UUID taskId, LocalDate day) {
+        return notificationLogRepository.upsertIfOlder(taskId, day) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void release(UUID taskId, LocalDate day) {
+        notificationLogRepository.deleteByTaskIdAndLastSent(taskId, day);
+    }
+
+    /**
+     * Deletes entries from before today.
+     */
+    @Scheduled(cron = "${app.notifications.ledger-cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = notificationLogRepository.deleteByLastSentBefore(LocalDate.now());
+        log.debug("Purged {} expired notification log entries", purged);
+    }
+}
@@ -0,0 +1,184 @@
+package gtp.projecttracker.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders the HTML email templates under {@code templates/emails}.
+ * <p>
+ * Every template is rendered once when the application is ready, so Thymeleaf parses it into its
+ * template cache before the first notification rather than during an overdue scan. Template
+ * specifications are resolved once per name, output is written into a per-thread buffer that is
+ * reused between renders, and {@link #renderAll} renders many contexts with a single
+ * {@link Context} instance.
+ * </p>
+ */
+@Component
+public class EmailTemplateRenderer {
+    private static final Logger log = LoggerFactory.getLogger(EmailTemplateRenderer.class);
+    private static final String TEMPLATE_PREFIX = "emails/";
+    private static final String TEMPLATE_LOCATION = "classpath*:templates/" + TEMPLATE_PREFIX + "*.html";
+    private static final int INITIAL_BUFFER_CAPACITY = 8 * 1024;
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 256 * 1024;
+
+    private final TemplateEngine templateEngine;
+    private final Map<String, TemplateSpec> templateSpecs = new ConcurrentHashMap<>();
+    private final ThreadLocal<StringBuilderWriter> buffers =
+            ThreadLocal.withInitial(() -> new StringBuilderWriter(INITIAL_BUFFER_CAPACITY));
+
+    public EmailTemplateRenderer(TemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * Renders every email template once so that it is parsed and cached before first use.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Resource[] templates;
+        try {
+            templates = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION);
+        } catch (IOException e) {
+            log.warn("Could not list email templates for warm-up: {}", e.getMessage());
+            return;
+        }
+
+        for (Resource template : templates) {
+            String filename = template.getFilename();
+            if (filename == null) {
+                continue;
+            }
+            String templateName = filename.substring(0, filename.length() - ".html".length());
+            try {
+                render(templateName, Map.of());
+            } catch (Exception e) {
+                // Expressions may fail without variables; the template has been parsed and cached by then
+                log.debug("Warm-up render of email template '{}' failed: {}", templateName, e.getMessage());
+            }
+        }
+        log.info("Warmed up {} email templates", templates.length);
+    }
+
+    /**
+     * Renders one email template.
+     *
+     * @param templateName Template name under {@code templates/emails}, without extension
+     * @param variables Template variables
+     * @return The rendered HTML
+     */
+    public String render(String templateName, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        StringBuilderWriter buffer = acquireBuffer();
+        templateEngine.process(templateSpec(templateName), context, buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Renders the same email template once for each set of variables.
+     *
+     * @param templateName Template name under {@code templates/emails}, without extension
+     * @param variables One set of template variables per email
+     * @return The rendered HTML, in the same order as {@code variables}
+     */
+    public List<String> renderAll(String templateName, List<Map<String, Object>> variables) {
+        TemplateSpec templateSpec = templateSpec(templateName);
+        Context context = new Context();
+        StringBuilderWriter buffer = acquireBuffer();
+        List<String> rendered = new ArrayList<>(variables.size());
+
+        for (Map<String, Object> emailVariables : variables) {
+            context.clearVariables();
+            context.setVariables(emailVariables);
+            buffer.reset();
+            templateEngine.process(templateSpec, context, buffer);
+            rendered.add(buffer.toString());
+        }
+        return rendered;
+    }
+
+    private TemplateSpec templateSpec(String templateName) {
+        return templateSpecs.computeIfAbsent(templateName,
+                name -> new TemplateSpec(TEMPLATE_PREFIX + name, TemplateMode.HTML));
+    }
+
+    private StringBuilderWriter acquireBuffer() {
+        StringBuilderWriter buffer = buffers.get();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            // Do not keep an unusually large render's buffer alive on this thread
+            buffer = new StringBuilderWriter(INITIAL_BUFFER_CAPACITY);
+            buffers.set(buffer);
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    /**
+     * Unsynchronized writer over a {@link StringBuilder} that can be reset and reused.
+     */
+    private static final class StringBuilderWriter extends Writer {
+        private final StringBuilder builder;
+
+        StringBuilderWriter(int capacity) {
+            this.builder = new StringBuilder(capacity);
+        }
+
+        void reset() {
+            builder.setLength(0);
+        }
+
+        int capacity() {
+            return builder.capacity();
+        }
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            builder.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            builder.append(str, off, off + len);
+        }
+
+        @Override
+        public Writer append(CharSequence csq) {
+            builder.append(csq);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package gtp.projecttracker.notification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * {@link NotificationLedger} that keeps the tasks notified today in memory.
+ * <p>
+ * Only the current day is retained: the first claim for a later day discards the previous day's
+ * entries, so memory is bounded by the number of tasks notified in one day. Task IDs are stored
+ * as pairs of longs in an open-addressing table rather than as boxed {@link UUID} map entries.
+ * State is lost on restart and is not shared between instances; use the database ledger where
+ * that matters.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.ledger", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNotificationLedger implements NotificationLedger {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private LocalDate currentDay;
+    private LongPairSet claimedToday = new LongPairSet(INITIAL_CAPACITY);
+
+    @Override
+    public synchronized boolean tryClaim(UUID taskId, LocalDate day) {
+        if (currentDay == null || day.isAfter(currentDay)) {
+            currentDay = day;
+            claimedToday = new LongPairSet(INITIAL_CAPACITY);
+        } else if (day.isBefore(currentDay)) {
+            return false;
+        }
+        return claimedToday.add(taskId.getMostSignificantBits(), taskId.getLeastSignificantBits());
+    }
+
+    @Override
+    public synchronized void release(UUID taskId, LocalDate day) {
+        if (day.equals(currentDay)) {
+            claimedToday.remove(taskId.getMostSignificantBits(), taskId.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * Open-addressing hash set of (most, least) significant bit pairs with linear probing.
+     * The all-zero pair marks an empty slot and is tracked separately.
+     */
+    private static final class LongPairSet {
+        private long[] slots;
+        private int size;
+        private boolean containsZero;
+
+        LongPairSet(int capacity) {
+            slots = new long[capacity * 2];
+        }
+
+        boolean add(long msb, long lsb) {
+            if (msb == 0 && lsb == 0) {
+                if (containsZero) {
+                    return false;
+                }
+                containsZero = true;
+                size++;
+                return true;
+            }
+            if ((size + 1) * 4 > capacity() * 3) {
+                grow();
+            }
+            if (!insert(slots, msb, lsb)) {
+                return false;
+            }
+            size++;
+            return true;
+        }
+
+        boolean remove(long msb, long lsb) {
+            if (msb == 0 && lsb == 0) {
+                if (!containsZero) {
+                    return false;
+                }
+                containsZero = false;
+                size--;
+                return true;
+            }
+
+            int mask = capacity() - 1;
+            int hole = mix(msb ^ lsb) & mask;
+            while (slots[hole * 2] != msb || slots[hole * 2 + 1] != lsb) {
+                if (slots[hole * 2] == 0 && slots[hole * 2 + 1] == 0) {
+                    return false;
+                }
+                hole = (hole + 1) & mask;
+            }
+
+            // Backward-shift deletion: pull later entries of the probe run into the hole so every
+            // remaining entry stays reachable from its home slot without tombstones
+            for (int index = (hole + 1) & mask; ; index = (index + 1) & mask) {
+                long m = slots[index * 2];
+                long l = slots[index * 2 + 1];
+                if (m == 0 && l == 0) {
+                    break;
+                }
+                int home = mix(m ^ l) & mask;
+                if (((index - home) & mask) >= ((index - hole) & mask)) {
+                    slots[hole * 2] = m;
+                    slots[hole * 2 + 1] = l;
+                    hole = index;
+                }
+            }
+            slots[hole * 2] = 0;
+            slots[hole * 2 + 1] = 0;
+            size--;
+            return true;
+        }
+
+        private int capacity() {
+            return slots.length / 2;
+        }
+
+        private void grow() {
+            long[] grown = new long[slots.length * 2];
+            for (int i = 0; i < slots.length; i += 2) {
+                if (slots[i] != 0 || slots[i + 1] != 0) {
+                    insert(grown, slots[i], slots[i + 1]);
+                }
+            }
+            slots = grown;
+        }
+
+        private static boolean insert(long[] table, long msb, long lsb) {
+            int mask = table.length / 2 - 1;
+            int index = mix(msb ^ lsb) & mask;
+            while (true) {
+                int slot = index * 2;
+                long m = table[slot];
+                long l = table[slot + 1];
+                if (m == 0 && l == 0) {
+                    table[slot] = msb;
+                    table[slot + 1] = lsb;
+                    return true;
+                }
+                if (m == msb && l == lsb) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private static int mix(long value) {
+            long h = value * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package gtp.projecttracker.notification;
+
+import gtp.projecttracker.config.NotificationProperties;
+import gtp.projecttracker.event.TaskOverdueEvent;
+import gtp.projecttracker.exception.EmailException;
+import gtp.projecttracker.repository.jpa.projection.OverdueTaskView;
+import gtp.projecttracker.service.EmailService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dedicated pipeline that turns {@link TaskOverdueEvent}s into overdue notification emails.
+ * <p>
+ * Events are handed to a bounded queue and processed by a single dispatcher thread, so sending
+ * email never occupies the shared {@code @Async} pool. Events arriving within the configured
+ * digest window are grouped by recipient and each recipient receives one email listing all of
+ * their overdue tasks. Messages are sent in batches that share one SMTP connection, paced to the
+ * configured rate, and messages the server rejects are retried with exponential back-off.
+ * </p>
+ * <p>
+ * Every event arrives with its {@link NotificationLedger} claim already taken. An event that is
+ * dropped, cannot be rendered, is still rejected after the last retry, is submitted after
+ * shutdown began, or is still unsent when the shutdown timeout expires has its claim released,
+ * so the next overdue scan sends it instead of treating it as notified.
+ * </p>
+ *
+ * <p><b>Metrics:</b></p>
+ * <ul>
+ *   <li>{@code notification.queue.depth} - events waiting to be digested</li>
+ *   <li>{@code notification.digest.size} - overdue tasks listed per email</li>
+ *   <li>{@code notification.batch.latency} - duration of each batched SMTP send</li>
+ *   <li>{@code notification.emails.sent} - emails accepted by the mail server</li>
+ *   <li>{@code notification.emails.retried} - emails re-sent after a failed attempt</li>
+ *   <li>{@code notification.emails.failed} - emails given up on after all attempts</li>
+ *   <li>{@code notification.events.dropped} - events discarded because the queue was full</li>
+ * </ul>
+ */
+@Component
+public class NotificationDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final String SINGLE_TEMPLATE = "task-overdue";
+    private static final String DIGEST_TEMPLATE = "task-overdue-digest";
+    private static final long MAX_POLL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+    private static final long RELEASE_TIMEOUT_MS = 5_000;
+
+    private final EmailService emailService;
+    private final EmailTemplateRenderer templateRenderer;
+    private final NotificationLedger notificationLedger;
+    private final NotificationProperties properties;
+    private final BlockingQueue<TaskOverdueEvent> queue;
+    private final long nanosPerEmail;
+
+    private final DistributionSummary digestSize;
+    private final Timer batchTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+    private long nextSendSlot;
+
+    /**
+     * Constructs a new NotificationDispatcher with the required dependencies.
+     *
+     * @param emailService Service used to build and send the emails
+     * @param templateRenderer Renderer for the notification templates
+     * @param notificationLedger Ledger whose claims are released for events that are not sent
+     * @param properties Queue, digest, batching, rate and retry settings
+     * @param meterRegistry Registry for the dispatcher metrics
+     */
+    public NotificationDispatcher(EmailService emailService,
+                                  EmailTemplateRenderer templateRenderer,
+                                  NotificationLedger notificationLedger,
+                                  NotificationProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.emailService = emailService;
+        this.templateRenderer = templateRenderer;
+        this.notificationLedger = notificationLedger;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.nanosPerEmail = properties.maxEmailsPerSecond() > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / properties.maxEmailsPerSecond())
+                : 0;
+
+        Gauge.builder("notification.queue.depth", queue, Collection::size)
+                .description("Overdue events waiting to be digested")
+                .register(meterRegistry);
+        this.digestSize = DistributionSummary.builder("notification.digest.size")
+                .description("Overdue tasks listed in one notification email")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("notification.batch.latency")
+                .description("Time taken to send one batch of emails over a single SMTP connection")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("notification.emails.sent")
+                .description("Notification emails accepted by the mail server")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("notification.emails.retried")
+                .description("Notification emails re-sent after a failed attempt")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.emails.failed")
+                .description("Notification emails given up on after all attempts")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.events.dropped")
+                .description("Overdue events discarded because the dispatch queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the background dispatcher thread.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        nextSendSlot = System.nanoTime();
+        dispatcher = new Thread(this::dispatchLoop, "notification-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * Stops accepting new work and sends everything still pending before the
+     * application context closes. If that takes longer than the shutdown timeout the dispatcher
+     * is interrupted and the ledger claims of all unsent events are released.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcher == null) {
+            return;
+        }
+
+        try {
+            dispatcher.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (dispatcher.isAlive()) {
+            log.warn("Notification dispatcher did not finish within {} ms, releasing unsent notifications",
+                    SHUTDOWN_TIMEOUT_MS);
+            dispatcher.interrupt();
+            try {
+                dispatcher.join(RELEASE_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Events queued while the dispatcher was finishing its final drain
+        List<TaskOverdueEvent> unsent = new ArrayList<>();
+        queue.drainTo(unsent);
+        release(unsent);
+    }
+
+    /**
+     * Queues an overdue event for digesting and delivery. Never blocks; if the queue is full the
+     * event is dropped and counted. Dropped events, and events submitted after shutdown began,
+     * have their ledger claim released.
+     *
+     * @param event The overdue event, whose task must have an assignee email
+     */
+    public void submit(TaskOverdueEvent event) {
+        if (!running) {
+            release(List.of(event));
+            return;
+        }
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+            log.warn("Notification queue full, dropping overdue event for task {}", event.task().taskId());
+            release(List.of(event));
+            return;
+        }
+        // stop() may have drained the queue between the running check and the offer
+        if (!running && queue.remove(event)) {
+            release(List.of(event));
+        }
+    }
+
+    private void dispatchLoop() {
+        long digestWindowNanos = properties.digestWindow().toNanos();
+        Map<String, List<TaskOverdueEvent>> pending = new LinkedHashMap<>();
+        List<TaskOverdueEvent> drained = new ArrayList<>();
+        int pendingCount = 0;
+        long deadline = 0;
+
+        while (running) {
+            try {
+                long waitNanos = pending.isEmpty()
+                        ? MAX_POLL_NANOS
+                        : Math.min(MAX_POLL_NANOS, Math.max(0, deadline - System.nanoTime()));
+                TaskOverdueEvent next = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+
+                if (next != null) {
+                    if (pending.isEmpty()) {
+                        deadline = System.nanoTime() + digestWindowNanos;
+                    }
+                    drained.add(next);
+                    queue.drainTo(drained);
+                    drained.forEach(event -> addToDigest(pending, event));
+                    pendingCount += drained.size();
+                    drained.clear();
+                }
+
+                // Digests are also cut early so pending events stay bounded by the queue capacity
+                if (!pending.isEmpty()
+                        && (System.nanoTime() >= deadline || pendingCount >= properties.queueCapacity())) {
+                    Map<String, List<TaskOverdueEvent>> digest = new LinkedHashMap<>(pending);
+                    pending.clear();
+                    pendingCount = 0;
+                    dispatch(digest);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Unexpected error in notification dispatcher loop", e);
+            }
+        }
+
+        // Final drain on shutdown; once interrupted there is no time left to send
+        queue.drainTo(drained);
+        drained.forEach(event -> addToDigest(pending, event));
+        if (Thread.currentThread().isInterrupted()) {
+            pending.values().forEach(this::release);
+        } else {
+            try {
+                dispatch(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("Notification dispatcher stopped");
+    }
+
+    private static void addToDigest(Map<String, List<TaskOverdueEvent>> pending, TaskOverdueEvent event) {
+        pending.computeIfAbsent(event.task().assigneeEmail(), email -> new ArrayList<>()).add(event);
+    }
+
+    private void dispatch(Map<String, List<TaskOverdueEvent>> pending) throws InterruptedException {
+        List<DigestEmail> singles = new ArrayList<>();
+        List<DigestEmail> digests = new ArrayList<>();
+        pending.forEach((recipient, events) -> {
+            digestSize.record(events.size());
+            if (events.size() == 1) {
+                TaskOverdueEvent event = events.get(0);
+                singles.add(new DigestEmail(recipient,
+                        String.format("Task Overdue: %s (%d days)", event.task().title(), event.daysOverdue()),
+                        taskContext(event), events));
+            } else {
+                String assigneeName = events.get(0).task().assigneeName();
+                digests.add(new DigestEmail(recipient,
+                        String.format("%d Tasks Overdue", events.size()),
+                        Map.of("assigneeName", assigneeName != null ? assigneeName : recipient,
+                                "tasks", events.stream().map(NotificationDispatcher::taskContext).toList()),
+                        events));
+            }
+        });
+
+        List<OutgoingEmail> messages = new ArrayList<>(pending.size());
+        createMessages(SINGLE_TEMPLATE, singles, messages);
+        createMessages(DIGEST_TEMPLATE, digests, messages);
+
+        int batchSize = Math.max(1, properties.batchSize());
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, messages.size());
+            try {
+                sendWithRetry(messages.subList(from, to));
+            } catch (InterruptedException e) {
+                // sendWithRetry released its own unsent messages
+                messages.subList(to, messages.size()).forEach(email -> release(email.events()));
+                throw e;
+            }
+        }
+    }
+
+    private void createMessages(String templateName, List<DigestEmail> emails, List<OutgoingEmail> messages) {
+        if (emails.isEmpty()) {
+            return;
+        }
+
+        List<String> bodies;
+        try {
+            bodies = templateRenderer.renderAll(templateName,
+                    emails.stream().map(DigestEmail::variables).toList());
+        } catch (Exception e) {
+            failedCounter.increment(emails.size());
+            log.error("Failed to render {} overdue notifications with template '{}'", emails.size(), templateName, e);
+            emails.forEach(email -> release(email.events()));
+            return;
+        }
+
+        for (int i = 0; i < emails.size(); i++) {
+            DigestEmail email = emails.get(i);
+            try {
+                messages.add(new OutgoingEmail(
+                        emailService.createEmail(email.recipient(), email.subject(), bodies.get(i)),
+                        email.events()));
+            } catch (EmailException e) {
+                failedCounter.increment();
+                log.error("Failed to build overdue notification for {}", email.recipient(), e);
+                release(email.events());
+            }
+        }
+    }
+
+    private static Map<String, Object> taskContext(TaskOverdueEvent event) {
+        OverdueTaskView task = event.task();
+        return Map.of(
+                "assigneeName", task.assigneeName() != null ? task.assigneeName() : task.assigneeEmail(),
+                "daysOverdue", event.daysOverdue(),
+                "taskTitle", task.title(),
+                "projectName", task.projectName() != null ? task.projectName() : "No Project",
+                "dueDate", task.dueDate()
+        );
+    }
+
+    private void sendWithRetry(List<OutgoingEmail> batch) throws InterruptedException {
+        List<OutgoingEmail> remaining = batch;
+        long backoffNanos = properties.retryBackoff().toNanos();
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                awaitSendSlot(remaining.size());
+                List<OutgoingEmail> toSend = remaining;
+                List<MimeMessage> failedMessages = batchTimer.record(() -> emailService.sendBatch(
+                        toSend.stream().map(OutgoingEmail::message).toList()));
+                sentCounter.increment(toSend.size() - failedMessages.size());
+
+                if (failedMessages.isEmpty()) {
+                    return;
+                }
+                // MimeMessage has identity equality, so this maps the failures back to their events
+                remaining = toSend.stream().filter(email -> failedMessages.contains(email.message())).toList();
+                if (attempt >= properties.maxAttempts()) {
+                    failedCounter.increment(remaining.size());
+                    log.error("Giving up on {} overdue notification emails after {} attempts", remaining.size(), attempt);
+                    // The next overdue scan claims and sends them again
+                    remaining.forEach(email -> release(email.events()));
+                    return;
+                }
+
+                log.warn("{} of {} overdue notification emails failed, retrying in {} ms",
+                        remaining.size(), toSend.size(), TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+                retriedCounter.increment(remaining.size());
+                TimeUnit.NANOSECONDS.sleep(backoffNanos);
+                backoffNanos *= 2;
+            }
+        } catch (InterruptedException e) {
+            remaining.forEach(email -> release(email.events()));
+            throw e;
+        }
+    }
+
+    private void release(List<TaskOverdueEvent> events) {
+        for (TaskOverdueEvent event : events) {
+            try {
+                notificationLedger.release(event.task().taskId(), event.notificationDay());
+            } catch (Exception e) {
+                log.error("Failed to release notification claim for task {}: {}", event.task().taskId(), e.getMessage());
+            }
+        }
+        if (!events.isEmpty()) {
+            log.info("Released {} unsent overdue notifications for the next scan", events.size());
+        }
+    }
+
+    /**
+     * One email to render: its recipient, subject, template variables and the events it covers.
+     */
+    private record DigestEmail(String recipient, String subject, Map<String, Object> variables,
+                               List<TaskOverdueEvent> events) {
+    }
+
+    /**
+     * A built email and the events whose claims it settles once sent.
+     */
+    private record OutgoingEmail(MimeMessage message, List<TaskOverdueEvent> events) {
+    }
+
+    /**
+     * Paces sends to {@code maxEmailsPerSecond} by reserving one slot per email.
+     */
+    private void awaitSendSlot(int emails) throws InterruptedException {
+        long now = System.nanoTime();
+        long waitNanos = nextSendSlot - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        nextSendSlot = Math.max(now, nextSendSlot) + emails * nanosPerEmail;
+    }
+}
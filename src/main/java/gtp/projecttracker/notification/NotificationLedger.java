@@ -0,0 +1,35 @@
+package gtp.projecttracker.notification;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Records which tasks have already been notified on a given day, so each overdue task produces
+ * at most one notification per day.
+ * <p>
+ * Implementations are selected with {@code app.notifications.ledger}: {@code memory} keeps only
+ * the current day in a compact in-process set, {@code database} persists the last notification
+ * date per task so the guarantee survives restarts and holds across instances.
+ * </p>
+ */
+public interface NotificationLedger {
+
+    /**
+     * Atomically claims the notification for a task on a day.
+     *
+     * @param taskId The task being notified
+     * @param day The day the notification is for
+     * @return true if the caller claimed the notification and should send it,
+     *         false if it was already claimed for that day
+     */
+    boolean tryClaim(UUID taskId, LocalDate day);
+
+    /**
+     * Gives back a claim whose notification was never sent, so a later scan on the same day can
+     * claim and send it again. Releasing a claim that is not held has no effect.
+     *
+     * @param taskId The task whose notification was not sent
+     * @param day The day the claim was made for
+     */
+    void release(UUID taskId, LocalDate day);
+}
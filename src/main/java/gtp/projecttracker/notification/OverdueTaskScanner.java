@@ -0,0 +1,130 @@
+package gtp.projecttracker.notification;
+
+import gtp.projecttracker.event.TaskOverdueEvent;
+import gtp.projecttracker.pagination.TaskCursor;
+import gtp.projecttracker.repository.jpa.TaskRepository;
+import gtp.projecttracker.repository.jpa.projection.OverdueTaskView;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Periodically scans for overdue tasks and publishes a {@link TaskOverdueEvent} for each one
+ * that has not been notified today.
+ * <p>
+ * The scan walks open, assigned tasks in {@code (dueDate, id)} keyset order using bounded chunks.
+ * Each chunk is read in its own short read-only transaction and projected to
+ * {@link OverdueTaskView}, so no transaction spans the whole scan, no entities are managed and
+ * neither memory nor per-chunk cost grows with the number of overdue tasks.
+ * </p>
+ */
+@Component
+public class OverdueTaskScanner {
+    private static final Logger log = LoggerFactory.getLogger(OverdueTaskScanner.class);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+    private final NotificationLedger notificationLedger;
+
+    /**
+     * Constructs a new OverdueTaskScanner with the required dependencies.
+     *
+     * @param taskRepository Repository providing the keyset overdue queries
+     * @param eventPublisher Publisher for overdue events
+     * @param notificationLedger Ledger that ensures one notification per task per day
+     * @param transactionManager Transaction manager used for the per-chunk read-only transactions
+     * @param chunkSize Number of tasks read per chunk
+     */
+    public OverdueTaskScanner(TaskRepository taskRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              NotificationLedger notificationLedger,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.notifications.overdue-scan-chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.notificationLedger = notificationLedger;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Scans all overdue tasks in chunks and publishes notifications for them.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.overdue-check-interval:300000}")
+    public void scan() {
+        LocalDate today = LocalDate.now();
+        Pageable limit = PageRequest.ofSize(chunkSize);
+        TaskCursor cursor = null;
+        int scanned = 0;
+        int published = 0;
+
+        while (true) {
+            List<OverdueTaskView> chunk = readChunk(today, cursor, limit);
+            for (OverdueTaskView task : chunk) {
+                if (notifyIfOverdue(task, today)) {
+                    published++;
+                }
+            }
+            scanned += chunk.size();
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            OverdueTaskView last = chunk.get(chunk.size() - 1);
+            cursor = new TaskCursor(last.dueDate(), last.taskId());
+        }
+
+        log.info("Overdue scan finished: {} tasks scanned, {} notifications published", scanned, published);
+    }
+
+    /**
+     * Publishes an overdue event for the task unless one was already published today.
+     *
+     * @param task The overdue task
+     * @return true if an event was published
+     */
+    public boolean notifyIfOverdue(OverdueTaskView task) {
+        return notifyIfOverdue(task, LocalDate.now());
+    }
+
+    private List<OverdueTaskView> readChunk(LocalDate today, TaskCursor after, Pageable limit) {
+        List<OverdueTaskView> chunk = readOnlyTransaction.execute(status -> after == null
+                ? taskRepository.findFirstOverdueViews(today, limit)
+                : taskRepository.findOverdueViewsAfter(today, after.dueDate(), after.id(), limit));
+        return chunk != null ? chunk : List.of();
+    }
+
+    private boolean notifyIfOverdue(OverdueTaskView task, LocalDate today) {
+        try {
+            if (!notificationLedger.tryClaim(task.taskId(), today)) {
+                log.debug("Notification already sent today for task {}", task.taskId());
+                return false;
+            }
+
+            int daysOverdue = Math.toIntExact(ChronoUnit.DAYS.between(task.dueDate(), today));
+            log.debug("Publishing overdue event for task {} (due {}, {} days overdue)",
+                    task.taskId(), task.dueDate(), daysOverdue);
+
+            eventPublisher.publishEvent(new TaskOverdueEvent(task, daysOverdue, today));
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to process task {}: {}", task.taskId(), e.getMessage());
+            return false;
+        }
+    }
+}
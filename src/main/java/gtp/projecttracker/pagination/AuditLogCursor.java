@@ -0,0 +1,63 @@
+package gtp.projecttracker.pagination;
+
+import gtp.projecttracker.exception.InvalidCursorException;
+import gtp.projecttracker.model.mongodb.AuditLog;
+
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in an audit log listing ordered by {@code (timestamp, _id)}, newest first.
+ * <p>
+ * Encoded for clients as an opaque base64url token, like {@link TaskCursor}. The id breaks ties
+ * between entries logged in the same millisecond.
+ * </p>
+ *
+ * @param timestamp The timestamp of the last entry on the previous page
+ * @param id The id of the last entry on the previous page
+ */
+public record AuditLogCursor(Instant timestamp, ObjectId id) {
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static AuditLogCursor after(AuditLog log) {
+        return new AuditLogCursor(log.getTimestamp(), log.getId());
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor The opaque cursor, or null/blank for the first page
+     * @return The decoded cursor, or null for the first page
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static AuditLogCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+            return new AuditLogCursor(
+                    Instant.parse(decoded.substring(0, separator)),
+                    new ObjectId(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id.toHexString();
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,62 @@
+package gtp.projecttracker.pagination;
+
+import gtp.projecttracker.exception.InvalidCursorException;
+import gtp.projecttracker.model.jpa.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a task listing ordered by {@code (dueDate, id)}.
+ * <p>
+ * Encoded for clients as an opaque base64url token so the sort key can change without
+ * breaking the API contract. The id breaks ties between tasks due on the same day.
+ * </p>
+ *
+ * @param dueDate The due date of the last task on the previous page
+ * @param id The id of the last task on the previous page
+ */
+public record TaskCursor(LocalDate dueDate, UUID id) {
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static TaskCursor after(Task task) {
+        return new TaskCursor(task.getDueDate(), task.getId());
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor The opaque cursor, or null/blank for the first page
+     * @return The decoded cursor, or null for the first page
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+            return new TaskCursor(
+                    LocalDate.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = dueDate + SEPARATOR + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
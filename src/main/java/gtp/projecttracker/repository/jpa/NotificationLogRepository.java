@@ -0,0 +1,38 @@
+package gtp.projecttracker.repository.jpa;
+
+import gtp.projecttracker.model.jpa.NotificationLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface NotificationLogRepository extends JpaRepository<NotificationLog, UUID> {
+
+    /**
+     * Records a notification for the task on the given day unless one was already recorded for
+     * that day or later. The conditional upsert is a single atomic statement, so concurrent
+     * instances cannot both succeed for the same task and day.
+     *
+     * @return 1 if the row was inserted or moved forward, 0 if it was already at {@code day}
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_log (task_id, last_sent) VALUES (:taskId, :day) " +
+            "ON CONFLICT (task_id) DO UPDATE SET last_sent = EXCLUDED.last_sent " +
+            "WHERE notification_log.last_sent < EXCLUDED.last_sent", nativeQuery = true)
+    int upsertIfOlder(@Param("taskId") UUID taskId, @Param("day") LocalDate day);
+
+    /**
+     * Removes the entry for the task only if it still records {@code day}, so releasing an unsent
+     * notification never undoes a claim made for a later day.
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationLog n WHERE n.taskId = :taskId AND n.lastSent = :day")
+    int deleteByTaskIdAndLastSent(@Param("taskId") UUID taskId, @Param("day") LocalDate day);
+
+    @Modifying
+    @Query("DELETE FROM NotificationLog n WHERE n.lastSent < :day")
+    int deleteByLastSentBefore(@Param("day") LocalDate day);
+}
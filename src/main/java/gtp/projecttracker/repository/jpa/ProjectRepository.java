@@ -1,6 +1,7 @@
 package gtp.projecttracker.repository.jpa;
 
 import gtp.projecttracker.model.jpa.Project;
+import gtp.projecttracker.repository.jpa.projection.ProjectTaskSummary;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,7 +12,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -23,8 +26,35 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     List<Project> findByStatus(Project.ProjectStatus projectStatus);
 
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.tasks")
-    Page<Project> findAllWithTasks(Pageable pageable);
+    /**
+     * First phase of a paged fetch with tasks: pages over project IDs only, so limit and
+     * offset are applied by the database. Sorting is taken from the pageable.
+     */
+    @Query(value = "SELECT p.id FROM Project p", countQuery = "SELECT COUNT(p) FROM Project p")
+    Page<UUID> findPageOfIds(Pageable pageable);
+
+    /**
+     * Second phase of a paged fetch with tasks: loads exactly the given projects with their tasks.
+     * The result order is unspecified.
+     */
+    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.id IN :ids")
+    List<Project> findAllWithTasksByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Query(ProjectTaskSummary.SELECT + "WHERE p.id = :id" + ProjectTaskSummary.GROUP_BY)
+    Optional<ProjectTaskSummary> findTaskSummaryById(@Param("id") UUID id);
+
+    @Query(ProjectTaskSummary.SELECT + "WHERE p.status = :status" + ProjectTaskSummary.GROUP_BY)
+    List<ProjectTaskSummary> findTaskSummariesByStatus(@Param("status") Project.ProjectStatus status);
+
+    @Query(ProjectTaskSummary.SELECT + ProjectTaskSummary.GROUP_BY + " HAVING COUNT(t) = 0")
+    List<ProjectTaskSummary> findTaskSummariesWithoutTasks();
+
+    @Query(value = ProjectTaskSummary.SELECT + ProjectTaskSummary.GROUP_BY,
+            countQuery = "SELECT COUNT(p) FROM Project p")
+    Page<ProjectTaskSummary> findAllTaskSummaries(Pageable pageable);
 
     void deleteById(UUID id);
 
@@ -2,6 +2,8 @@ package gtp.projecttracker.repository.jpa;
 
 import gtp.projecttracker.model.jpa.Task;
 import gtp.projecttracker.model.jpa.Task.Status;
+import gtp.projecttracker.repository.jpa.projection.OverdueTaskView;
+import gtp.projecttracker.repository.jpa.projection.TaskWorkloadCount;
 
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.domain.Page;
@@ -15,6 +17,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -29,6 +32,15 @@ public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificat
 
     Task findTaskById(UUID taskId);
 
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.project LEFT JOIN FETCH t.assignee WHERE t.id = :taskId")
+    Optional<Task> findWithProjectAndAssigneeById(@Param("taskId") UUID taskId);
+
+    // Ownership check in a single statement: empty if the task does not exist,
+    // otherwise whether it is assigned to the user with the given email.
+    @Query("SELECT CASE WHEN a.email = :email THEN true ELSE false END " +
+            "FROM Task t LEFT JOIN t.assignee a WHERE t.id = :taskId")
+    Optional<Boolean> isAssignedTo(@Param("taskId") UUID taskId, @Param("email") String email);
+
     @Modifying
     @Query("DELETE FROM Task t WHERE t.project.id = :projectId")
     void deleteByProjectId(@Param("projectId") UUID projectId);
@@ -45,8 +57,71 @@ public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificat
 
     Page<Task> findByAssigneeId(UUID userId, Pageable pageable);
 
-    @Query("SELECT t.assignee.id, COUNT(t) FROM Task t GROUP BY t.assignee.id ORDER BY COUNT(t) DESC")
-    List<Object[]> countTasksByUser();
+    // Keyset (seek) pagination ordered by (dueDate, id). The pageable only carries the limit;
+    // List return types skip the count query. The overdue pages are mapped to full TaskResponses,
+    // so they fetch the assignee and project with the rows.
+
+    @Query("SELECT t FROM Task t ORDER BY t.dueDate, t.id")
+    List<Task> findFirstByDueDate(Pageable limit);
+
+    @Query("SELECT t FROM Task t WHERE (t.dueDate, t.id) > (:dueDate, :id) ORDER BY t.dueDate, t.id")
+    List<Task> findByDueDateAfter(
+            @Param("dueDate") LocalDate dueDate,
+            @Param("id") UUID id,
+            Pageable limit);
+
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee LEFT JOIN FETCH t.project " +
+            "WHERE t.dueDate <= :currentDate AND t.status <> 'DONE' " +
+            "ORDER BY t.dueDate, t.id")
+    List<Task> findFirstOverdue(@Param("currentDate") LocalDate currentDate, Pageable limit);
+
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee LEFT JOIN FETCH t.project " +
+            "WHERE t.dueDate <= :currentDate AND t.status <> 'DONE' " +
+            "AND (t.dueDate, t.id) > (:dueDate, :id) " +
+            "ORDER BY t.dueDate, t.id")
+    List<Task> findOverdueAfter(
+            @Param("currentDate") LocalDate currentDate,
+            @Param("dueDate") LocalDate dueDate,
+            @Param("id") UUID id,
+            Pageable limit);
+
+    // Overdue notification scan: assigned, open tasks due on or before the given date, in
+    // (dueDate, id) keyset chunks projected to OverdueTaskView.
+
+    @Query(OverdueTaskView.SELECT +
+            "FROM Task t JOIN t.assignee a LEFT JOIN t.project p " +
+            "WHERE t.dueDate <= :currentDate AND t.status <> 'DONE' " +
+            "ORDER BY t.dueDate, t.id")
+    List<OverdueTaskView> findFirstOverdueViews(@Param("currentDate") LocalDate currentDate, Pageable limit);
+
+    @Query(OverdueTaskView.SELECT +
+            "FROM Task t JOIN t.assignee a LEFT JOIN t.project p " +
+            "WHERE t.dueDate <= :currentDate AND t.status <> 'DONE' " +
+            "AND (t.dueDate, t.id) > (:dueDate, :id) " +
+            "ORDER BY t.dueDate, t.id")
+    List<OverdueTaskView> findOverdueViewsAfter(
+            @Param("currentDate") LocalDate currentDate,
+            @Param("dueDate") LocalDate dueDate,
+            @Param("id") UUID id,
+            Pageable limit);
+
+    @Query("SELECT t FROM Task t WHERE t.assignee.id = :userId ORDER BY t.dueDate, t.id")
+    List<Task> findFirstByAssignee(@Param("userId") UUID userId, Pageable limit);
+
+    @Query("SELECT t FROM Task t WHERE t.assignee.id = :userId " +
+            "AND (t.dueDate, t.id) > (:dueDate, :id) " +
+            "ORDER BY t.dueDate, t.id")
+    List<Task> findByAssigneeAfter(
+            @Param("userId") UUID userId,
+            @Param("dueDate") LocalDate dueDate,
+            @Param("id") UUID id,
+            Pageable limit);
+
+    @Query("SELECT new gtp.projecttracker.repository.jpa.projection.TaskWorkloadCount(" +
+            "a.id, p.id, t.status, t.priority, COUNT(t)) " +
+            "FROM Task t LEFT JOIN t.assignee a LEFT JOIN t.project p " +
+            "GROUP BY a.id, p.id, t.status, t.priority")
+    List<TaskWorkloadCount> countTaskWorkloads();
 
     boolean existsByProjectId(UUID projectId);
 
@@ -1,19 +1,39 @@
 package gtp.projecttracker.repository.jpa;
 
+import gtp.projecttracker.config.CacheConfig;
 import gtp.projecttracker.model.jpa.User;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
-    @Cacheable("users")
+    /**
+     * Looks up a user by email. Only found users are cached, so a lookup made before a user
+     * registers cannot hide the new account.
+     */
+    @Cacheable(value = CacheConfig.CACHE_USERS, unless = "#result == null")
     Optional<User> findByEmail(String email);
 
+    /**
+     * Saves the user and evicts its cached lookup, so the next {@link #findByEmail} reads the
+     * saved state.
+     */
+    @Override
+    @NonNull
+    @CacheEvict(value = CacheConfig.CACHE_USERS, key = "#p0.email")
+    <S extends User> S save(@NonNull S user);
+
     boolean existsByEmail(String email);
 
     @NonNull
@@ -21,4 +41,28 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     @NonNull
     boolean existsById(UUID userId);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // Maintenance of the denormalized users.task_count column
+
+    @Modifying
+    @Query("UPDATE User u SET u.taskCount = u.taskCount + :delta WHERE u.id = :userId")
+    void adjustTaskCount(@Param("userId") UUID userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.taskCount = 0 WHERE u.id = :userId")
+    void resetTaskCount(@Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.taskCount = u.taskCount - " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.assignee = u AND t.project.id = :projectId) " +
+            "WHERE u.id IN (SELECT t.assignee.id FROM Task t WHERE t.project.id = :projectId)")
+    void subtractProjectTaskCounts(@Param("projectId") UUID projectId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.taskCount = (SELECT COUNT(t) FROM Task t WHERE t.assignee = u) " +
+            "WHERE u.taskCount <> (SELECT COUNT(t) FROM Task t WHERE t.assignee = u)")
+    int reconcileTaskCounts();
 }
@@ -0,0 +1,52 @@
+package gtp.projecttracker.repository.jpa.projection;
+
+import gtp.projecttracker.model.jpa.Task;
+import gtp.projecttracker.model.jpa.User;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only projection with just the columns an overdue notification needs.
+ * <p>
+ * Selected directly by JPQL constructor queries, so scanning overdue tasks creates no managed
+ * entities and the persistence context does not grow with the number of tasks scanned.
+ * </p>
+ *
+ * @param taskId The task's ID
+ * @param title The task's title
+ * @param dueDate The task's due date
+ * @param assigneeEmail The assignee's email, or null if the task is unassigned
+ * @param assigneeName The assignee's name, or null if the task is unassigned
+ * @param projectName The owning project's name, or null if the task has no project
+ */
+public record OverdueTaskView(
+        UUID taskId,
+        String title,
+        LocalDate dueDate,
+        String assigneeEmail,
+        String assigneeName,
+        String projectName
+) {
+    /**
+     * JPQL select clause matching the canonical constructor. Expects the task alias {@code t},
+     * its assignee joined as {@code a} and its project left joined as {@code p}.
+     */
+    public static final String SELECT = "SELECT new gtp.projecttracker.repository.jpa.projection.OverdueTaskView(" +
+            "t.id, t.title, t.dueDate, a.email, a.name, p.name) ";
+
+    /**
+     * Builds a view from a loaded task, for callers that already hold the entity.
+     */
+    public static OverdueTaskView of(Task task) {
+        User assignee = task.getAssignee();
+        return new OverdueTaskView(
+                task.getId(),
+                task.getTitle(),
+                task.getDueDate(),
+                assignee != null ? assignee.getEmail() : null,
+                assignee != null ? assignee.getName() : null,
+                task.getProject() != null ? task.getProject().getName() : null
+        );
+    }
+}
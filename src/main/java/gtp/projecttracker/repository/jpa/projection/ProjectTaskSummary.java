@@ -0,0 +1,72 @@
+package gtp.projecttracker.repository.jpa.projection;
+
+import gtp.projecttracker.model.jpa.Project.ProjectStatus;
+import gtp.projecttracker.model.jpa.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a project row together with its aggregated task counts.
+ * <p>
+ * Populated by a single grouped JPQL constructor query (see {@code ProjectRepository}),
+ * so listing projects never initializes the lazy {@code tasks} collection.
+ * </p>
+ */
+public record ProjectTaskSummary(
+        UUID id,
+        String name,
+        String description,
+        LocalDate startDate,
+        LocalDate deadline,
+        ProjectStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long taskCount,
+        long todoCount,
+        long assignedCount,
+        long approvedCount,
+        long inProgressCount,
+        long doneCount,
+        long blockedCount
+) {
+    /**
+     * JPQL select clause matching the canonical constructor. Expects the project alias {@code p}
+     * and a left join of its tasks aliased {@code t}, followed by {@link #GROUP_BY}.
+     */
+    public static final String SELECT = "SELECT new gtp.projecttracker.repository.jpa.projection.ProjectTaskSummary(" +
+            "p.id, p.name, p.description, p.startDate, p.deadline, p.status, p.createdAt, p.updatedAt, " +
+            "COUNT(t), " +
+            "SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = 'ASSIGNED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = 'APPROVED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = 'BLOCKED' THEN 1 ELSE 0 END)) " +
+            "FROM Project p LEFT JOIN p.tasks t ";
+
+    /**
+     * JPQL group-by clause to append after any WHERE clause of a {@link #SELECT} query.
+     */
+    public static final String GROUP_BY =
+            " GROUP BY p.id, p.name, p.description, p.startDate, p.deadline, p.status, p.createdAt, p.updatedAt";
+
+    /**
+     * Returns the task counts keyed by status, including statuses with no tasks.
+     *
+     * @return An ordered map from each task status to its count
+     */
+    public Map<Task.Status, Long> taskCountsByStatus() {
+        Map<Task.Status, Long> counts = new EnumMap<>(Task.Status.class);
+        counts.put(Task.Status.TODO, todoCount);
+        counts.put(Task.Status.ASSIGNED, assignedCount);
+        counts.put(Task.Status.APPROVED, approvedCount);
+        counts.put(Task.Status.IN_PROGRESS, inProgressCount);
+        counts.put(Task.Status.DONE, doneCount);
+        counts.put(Task.Status.BLOCKED, blockedCount);
+        return counts;
+    }
+}
@@ -0,0 +1,27 @@
+package gtp.projecttracker.repository.jpa.projection;
+
+import gtp.projecttracker.model.jpa.Task.Priority;
+import gtp.projecttracker.model.jpa.Task.Status;
+
+import java.util.UUID;
+
+/**
+ * Number of tasks sharing one assignee, project, status and priority.
+ * <p>
+ * Selected by a single grouped JPQL constructor query (see {@code TaskRepository}) that the
+ * workload statistics are rebuilt from.
+ * </p>
+ *
+ * @param assigneeId The assignee's ID, or null for unassigned tasks
+ * @param projectId The project's ID, or null for tasks without a project
+ * @param status The tasks' status
+ * @param priority The tasks' priority
+ * @param count The number of tasks in the group
+ */
+public record TaskWorkloadCount(
+        UUID assigneeId,
+        UUID projectId,
+        Status status,
+        Priority priority,
+        long count
+) {}
@@ -3,20 +3,24 @@ package gtp.projecttracker.repository.mongodb;
 import gtp.projecttracker.model.mongodb.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
-import java.util.List;
 
+/**
+ * Paged audit log queries. Each filter is backed by a compound index with the timestamp
+ * (see {@code MongoConfig}), so pages sorted by timestamp are read straight off the index.
+ * Keyset listings and exports are built with {@code MongoTemplate} in {@code AuditService}.
+ */
 @Repository
 public interface AuditLogRepository extends MongoRepository<AuditLog, String> {
-    List<AuditLog> findByEntityType(String entityType);
-    List<AuditLog> findByActorName(String actorName);
+    Page<AuditLog> findByEntityType(String entityType, Pageable pageable);
+    Page<AuditLog> findByActorName(String actorName, Pageable pageable);
 
-    @Query("{'timestamp': {$gte: ?0, $lte: ?1}}")
-    List<AuditLog> findByTimestampBetween(Instant startDate, Instant endDate);
+    @Query("{'timestamp': {$gte: ?0, $lt: ?1}}")
+    Page<AuditLog> findByTimestampBetween(Instant startDate, Instant endDate, Pageable pageable);
 
     Page<AuditLog> findByActionType(AuditLog.ActionType actionType, Pageable pageable);
 }
@@ -17,6 +17,8 @@ import java.util.Base64;
  *   <li><b>secret</b>: The base secret key used for JWT signing and verification</li>
  *   <li><b>expirationMs</b>: Expiration time for regular access tokens in milliseconds</li>
  *   <li><b>refreshExpirationMs</b>: Expiration time for refresh tokens in milliseconds</li>
+ *   <li><b>authCacheMaxSize</b>: Maximum number of verified tokens kept in the authentication cache</li>
+ *   <li><b>statelessAuthorities</b>: Build the request principal from token claims instead of loading the user</li>
  * </ul>
  *
  * @see ConfigurationProperties
@@ -28,6 +30,8 @@ public class JwtConfig {
     private String secret;
     private long expirationMs;
     private long refreshExpirationMs;
+    private long authCacheMaxSize = 10_000;
+    private boolean statelessAuthorities;
 
     /**
      * Gets the JWT secret key as a byte array in Base64 encoded format.
@@ -62,4 +66,20 @@ public class JwtConfig {
     public void setRefreshExpirationMs(long refreshExpirationMs) {
         this.refreshExpirationMs = refreshExpirationMs;
     }
+
+    public long getAuthCacheMaxSize() {
+        return authCacheMaxSize;
+    }
+
+    public void setAuthCacheMaxSize(long authCacheMaxSize) {
+        this.authCacheMaxSize = authCacheMaxSize;
+    }
+
+    public boolean isStatelessAuthorities() {
+        return statelessAuthorities;
+    }
+
+    public void setStatelessAuthorities(boolean statelessAuthorities) {
+        this.statelessAuthorities = statelessAuthorities;
+    }
 }
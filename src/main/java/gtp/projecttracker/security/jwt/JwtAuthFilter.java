@@ -1,7 +1,11 @@
 package gtp.projecttracker.security.jwt;
 
+import gtp.projecttracker.security.config.JwtConfig;
+import gtp.projecttracker.security.jwt.JwtAuthenticationCache.CachedPrincipal;
+import gtp.projecttracker.security.service.JwtUserPrincipal;
 import gtp.projecttracker.security.service.UserDetailsServiceImpl;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,13 +29,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final JwtAuthenticationCache authenticationCache;
+    private final TokenVersionRegistry tokenVersions;
+    private final JwtConfig jwtConfig;
     private final WebAuthenticationDetailsSource authDetailsSource;
 
     // Initialize all reusable objects
     public JwtAuthFilter(JwtProvider jwtProvider,
-                         UserDetailsServiceImpl userDetailsService) {
+                         UserDetailsServiceImpl userDetailsService,
+                         JwtAuthenticationCache authenticationCache,
+                         TokenVersionRegistry tokenVersions,
+                         JwtConfig jwtConfig) {
         this.jwtProvider = jwtProvider;
         this.userDetailsService = userDetailsService;
+        this.authenticationCache = authenticationCache;
+        this.tokenVersions = tokenVersions;
+        this.jwtConfig = jwtConfig;
         this.authDetailsSource = new WebAuthenticationDetailsSource();
     }
 
@@ -46,18 +59,27 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 return;
             }
 
-            if (!jwtProvider.validateToken(jwt)) {
+            CachedPrincipal principal;
+            try {
+                principal = authenticationCache.get(jwt, this::authenticateToken);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.error("Invalid JWT token: {}", e.getMessage());
                 sendError(response, "Invalid token");
                 return;
             }
 
-            String email = jwtProvider.getEmailFromJwt(jwt);
-            if (email == null || email.isEmpty()) {
+            if (principal == null) {
                 sendError(response, "Missing email in token");
                 return;
             }
 
-            authenticateUser(request, email);
+            if (principal.userId() != null
+                    && !tokenVersions.isCurrent(principal.userId(), principal.tokenVersion())) {
+                sendError(response, "Token has been revoked");
+                return;
+            }
+
+            authenticateUser(request, principal);
         } catch (Exception e) {
             log.error("Authentication error", e);
             sendError(response, e.getMessage());
@@ -67,18 +89,41 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateUser(HttpServletRequest request, String email) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+    /**
+     * Verifies the token with a single parse and resolves its principal. Only invoked on a cache miss.
+     * In stateless mode the principal is built from the token claims; otherwise, and for tokens
+     * issued without a user ID, the user is loaded.
+     */
+    private CachedPrincipal authenticateToken(String jwt) {
+        VerifiedJwt claims = jwtProvider.parseVerifiedToken(jwt);
+        String email = claims.subject();
+        if (email == null || email.isEmpty()) {
+            return null;
+        }
+
+        UserDetails userDetails = jwtConfig.isStatelessAuthorities() && claims.userId() != null
+                ? JwtUserPrincipal.of(claims.userId(), email, claims.roles())
+                : userDetailsService.loadUserByUsername(email);
+
+        return new CachedPrincipal(
+                userDetails,
+                userDetails.getAuthorities(),
+                claims.userId(),
+                claims.tokenVersion(),
+                claims.expiresAt()
+        );
+    }
 
+    private void authenticateUser(HttpServletRequest request, CachedPrincipal principal) {
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal.userDetails(),
                         null,
-                        userDetails.getAuthorities());
+                        principal.authorities());
 
         authentication.setDetails(authDetailsSource.buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        log.debug("Authenticated user: {}", email);
+        log.debug("Authenticated user: {}", principal.userDetails().getUsername());
     }
 
     private String parseJwt(HttpServletRequest request) {
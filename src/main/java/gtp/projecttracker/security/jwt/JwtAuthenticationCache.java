@@ -0,0 +1,133 @@
+package gtp.projecttracker.security.jwt;
+
+import gtp.projecttracker.security.config.JwtConfig;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of already-authenticated bearer tokens.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the raw token, so the tokens themselves are never
+ * retained in memory, and each entry expires exactly when its token does. A hit lets
+ * {@link JwtAuthFilter} skip both signature verification and the user lookup.
+ * </p>
+ *
+ * <p>Hit, miss and eviction counts are published under the {@code cache.*} meters with the tag
+ * {@code cache=jwtAuthentication}.</p>
+ */
+@Component
+public class JwtAuthenticationCache {
+    public static final String CACHE_NAME = "jwtAuthentication";
+
+    private final Cache<String, CachedPrincipal> cache;
+
+    /**
+     * Constructs a new JwtAuthenticationCache with the required dependencies.
+     *
+     * @param jwtConfig JWT settings providing the maximum cache size
+     * @param meterRegistry Registry the cache statistics are bound to
+     */
+    public JwtAuthenticationCache(JwtConfig jwtConfig, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtConfig.getAuthCacheMaxSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached principal for the token, authenticating it with the given
+     * function on a miss. Exceptions thrown by the function are propagated and nothing is cached.
+     *
+     * @param token The raw bearer token
+     * @param authenticator Verifies the token and loads its principal, or returns null if it
+     *                      cannot be authenticated
+     * @return The authenticated principal, or null if the authenticator returned null
+     */
+    public CachedPrincipal get(String token, Function<String, CachedPrincipal> authenticator) {
+        return cache.get(digest(token), key -> authenticator.apply(token));
+    }
+
+    /**
+     * Removes all cached tokens belonging to the given user, for example after a role change.
+     *
+     * @param username The username (email) whose tokens should be re-authenticated
+     */
+    public void evictUser(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.asMap().values().removeIf(principal ->
+                username.equalsIgnoreCase(principal.userDetails().getUsername()));
+    }
+
+    /**
+     * Removes every cached token.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A principal authenticated from a verified token.
+     *
+     * @param userDetails The loaded user
+     * @param authorities The authorities granted for the request
+     * @param userId The user's ID from the token, or null for tokens issued without it
+     * @param tokenVersion The token version used for revocation checks
+     * @param expiresAt When the originating token expires
+     */
+    public record CachedPrincipal(
+            UserDetails userDetails,
+            Collection<? extends GrantedAuthority> authorities,
+            UUID userId,
+            long tokenVersion,
+            Instant expiresAt
+    ) {
+    }
+
+    private static final class TokenExpiry implements Expiry<String, CachedPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
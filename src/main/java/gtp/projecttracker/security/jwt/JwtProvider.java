@@ -13,21 +13,30 @@ import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import java.security.Key;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtProvider {
     private static final Logger log = LoggerFactory.getLogger(JwtProvider.class);
 
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_TOKEN_VERSION = "ver";
+
     private final JwtConfig jwtConfig;
+    private final TokenVersionRegistry tokenVersions;
     private Key signingKey;
     private JwtParser jwtParser;
 
-    public JwtProvider(JwtConfig jwtConfig) {
+    public JwtProvider(JwtConfig jwtConfig, TokenVersionRegistry tokenVersions) {
         this.jwtConfig = jwtConfig;
+        this.tokenVersions = tokenVersions;
     }
 
     @PostConstruct
@@ -43,6 +52,10 @@ public class JwtProvider {
 
         Map<String, Object> claims = new HashMap<>();
         claims.put("email", user.getUsername());
+        if (user.getUser().getId() != null) {
+            claims.put(CLAIM_USER_ID, user.getUser().getId().toString());
+            claims.put(CLAIM_TOKEN_VERSION, tokenVersions.currentVersion(user.getUser().getId()));
+        }
         claims.put("roles", userDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList()));
@@ -56,6 +69,38 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * Parses the token once, verifying its signature and expiry, and returns its claims.
+     *
+     * @param token The compact JWT string
+     * @return The verified claims
+     * @throws JwtException if the token is malformed, tampered with or expired
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public VerifiedJwt parseVerifiedToken(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("Token has no expiration");
+        }
+
+        List<String> roles = new ArrayList<>();
+        if (claims.get("roles") instanceof Collection<?> values) {
+            values.forEach(role -> roles.add(String.valueOf(role)));
+        }
+
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        Number version = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+
+        return new VerifiedJwt(
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId) : null,
+                version != null ? version.longValue() : 0L,
+                roles,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant()
+        );
+    }
+
     public boolean validateToken(String token) {
         try {
             jwtParser.parseClaimsJws(token);
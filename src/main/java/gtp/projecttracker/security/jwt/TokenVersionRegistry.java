@@ -0,0 +1,62 @@
+package gtp.projecttracker.security.jwt;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory table of per-user token versions used to revoke issued JWTs.
+ * <p>
+ * Every token carries the version that was current for its user when it was issued (the
+ * {@code ver} claim). Revoking a user's tokens bumps the version, so all tokens issued before
+ * that point stop being accepted without any database lookup. Only users that have revoked
+ * tokens occupy an entry; everyone else implicitly has version 0.
+ * </p>
+ *
+ * <p>The table is local to this instance and is not persisted, so it can lag behind the version
+ * a token carries: after a restart, or on another instance, a user who logged out and back in
+ * holds a token newer than the local entry. Tokens at or above the local version are therefore
+ * accepted and only tokens issued before a revocation known here are refused. The flip side is
+ * that revocations are forgotten on restart; tokens are short-lived
+ * ({@code app.jwt.expiration-ms}), which bounds that window.</p>
+ */
+@Component
+public class TokenVersionRegistry {
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the version new tokens for the user should carry.
+     *
+     * @param userId The user's ID
+     * @return The current token version
+     */
+    public long currentVersion(UUID userId) {
+        if (userId == null) {
+            return 0L;
+        }
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Checks whether a token issued with the given version is still valid.
+     *
+     * @param userId The user's ID
+     * @param version The version carried by the token
+     * @return true if the token was not issued before a revocation known to this instance
+     */
+    public boolean isCurrent(UUID userId, long version) {
+        return version >= currentVersion(userId);
+    }
+
+    /**
+     * Revokes every token issued to the user so far.
+     *
+     * @param userId The user's ID
+     * @return The new token version
+     */
+    public long revoke(UUID userId) {
+        return versions.merge(userId, 1L, Long::sum);
+    }
+}
@@ -0,0 +1,30 @@
+package gtp.projecttracker.security.jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature and expiry have already been verified.
+ * Produced by {@link JwtProvider#parseVerifiedToken(String)} so callers never
+ * have to parse the same token more than once.
+ *
+ * @param subject      The token subject (the user's email)
+ * @param userId       The user's ID from the "uid" claim, or null for tokens issued without it
+ * @param tokenVersion The user's token version from the "ver" claim (0 if absent)
+ * @param roles        The role names carried in the "roles" claim
+ * @param issuedAt     When the token was issued
+ * @param expiresAt    When the token expires
+ */
+public record VerifiedJwt(
+        String subject,
+        UUID userId,
+        long tokenVersion,
+        List<String> roles,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    public VerifiedJwt {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+}
@@ -1,9 +1,11 @@
 package gtp.projecttracker.security.oauth2;
 
+import gtp.projecttracker.event.UserUpdatedEvent;
 import gtp.projecttracker.model.jpa.User;
 import gtp.projecttracker.model.jpa.User.Role;
 import gtp.projecttracker.repository.jpa.UserRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -35,10 +37,12 @@ import java.util.Map;
 @Service
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final OidcUserService oidcUserService = new OidcUserService();
 
-    public CustomOAuth2UserService(UserRepository userRepository) {
+    public CustomOAuth2UserService(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -95,6 +99,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         newUser.setEmail((String) attributes.get("email"));
         newUser.setName((String) attributes.get("name"));
         newUser.setRole(Role.ROLE_CONTRACTOR);
-        return userRepository.save(newUser);
+        User saved = userRepository.save(newUser);
+        eventPublisher.publishEvent(UserUpdatedEvent.created(saved.getId(), saved.getEmail()));
+        return saved;
     }
 }
@@ -1,5 +1,6 @@
 package gtp.projecttracker.security.oauth2;
 
+import gtp.projecttracker.event.UserUpdatedEvent;
 import gtp.projecttracker.model.jpa.User;
 import gtp.projecttracker.model.jpa.User.Role;
 import gtp.projecttracker.repository.jpa.UserRepository;
@@ -8,6 +9,7 @@ import gtp.projecttracker.security.jwt.JwtProvider;
 import gtp.projecttracker.security.service.UserDetailsImpl;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
@@ -25,11 +27,14 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
     private final JwtProvider jwtProvider;
     private final RedirectStrategy redirectStrategy;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public OAuth2SuccessHandler(JwtProvider jwtProvider, UserRepository userRepository) {
+    public OAuth2SuccessHandler(JwtProvider jwtProvider, UserRepository userRepository,
+                                ApplicationEventPublisher eventPublisher) {
         this.jwtProvider = jwtProvider;
         this.redirectStrategy = new DefaultRedirectStrategy();
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -80,7 +85,9 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
                     newUser.setRole(Role.ROLE_CONTRACTOR);
                     newUser.setOauth2User(true);
                     newUser.setPassword(null);
-                    return userRepository.save(newUser);
+                    User saved = userRepository.save(newUser);
+                    eventPublisher.publishEvent(UserUpdatedEvent.created(saved.getId(), saved.getEmail()));
+                    return saved;
                 });
     }
 }
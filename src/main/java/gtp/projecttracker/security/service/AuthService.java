@@ -3,16 +3,20 @@ package gtp.projecttracker.security.service;
 import gtp.projecttracker.dto.request.user.LoginRequest;
 import gtp.projecttracker.dto.request.user.RegisterRequest;
 import gtp.projecttracker.dto.response.JwtResponse;
+import gtp.projecttracker.event.UserUpdatedEvent;
 import gtp.projecttracker.model.jpa.User;
 import gtp.projecttracker.model.jpa.User.Role;
 import gtp.projecttracker.repository.jpa.UserRepository;
+import gtp.projecttracker.security.jwt.JwtAuthenticationCache;
 import gtp.projecttracker.security.jwt.JwtProvider;
+import gtp.projecttracker.security.jwt.TokenVersionRegistry;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,6 +27,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
+import java.util.UUID;
 
 
 @Service
@@ -34,19 +39,28 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final Validator validator;
+    private final TokenVersionRegistry tokenVersions;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AuthService(
             AuthenticationManager authenticationManager,
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
             JwtProvider jwtProvider,
-            Validator validator
+            Validator validator,
+            TokenVersionRegistry tokenVersions,
+            JwtAuthenticationCache jwtAuthenticationCache,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtProvider = jwtProvider;
         this.validator = validator;
+        this.tokenVersions = tokenVersions;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -70,6 +84,7 @@ public class AuthService {
         user.setRole(determineDefaultRole());
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserUpdatedEvent.created(savedUser.getId(), savedUser.getEmail()));
         UserDetailsImpl userDetails = new UserDetailsImpl(savedUser);
         return generateTokenResponse(userDetails);
     }
@@ -93,6 +108,30 @@ public class AuthService {
         }
     }
 
+    /**
+     * Revokes every token issued to the authenticated user so far.
+     *
+     * @param authentication The current authentication, or null if the request is anonymous
+     */
+    public void logout(Authentication authentication) {
+        if (authentication == null) {
+            return;
+        }
+
+        UUID userId = null;
+        if (authentication.getPrincipal() instanceof UserDetailsImpl details) {
+            userId = details.getUser().getId();
+        } else if (authentication.getPrincipal() instanceof JwtUserPrincipal principal) {
+            userId = principal.id();
+        }
+
+        if (userId != null) {
+            tokenVersions.revoke(userId);
+            jwtAuthenticationCache.evictUser(authentication.getName());
+            log.debug("Revoked tokens for user {}", userId);
+        }
+    }
+
     private Role determineDefaultRole() {
         return userRepository.count() == 0 ? Role.ROLE_ADMIN : Role.ROLE_DEVELOPER;
     }
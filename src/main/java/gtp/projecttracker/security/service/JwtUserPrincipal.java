@@ -0,0 +1,57 @@
+package gtp.projecttracker.security.service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lightweight principal built directly from verified JWT claims.
+ * <p>
+ * Used instead of {@link UserDetailsImpl} when {@code app.jwt.stateless-authorities} is enabled,
+ * so authenticating a request does not load the {@code User} entity. It carries no password and
+ * no entity state; code that needs the full user must load it explicitly.
+ * </p>
+ *
+ * @param id The user's ID
+ * @param email The user's email (the username)
+ * @param authorities The authorities taken from the token's roles claim
+ */
+public record JwtUserPrincipal(
+        UUID id,
+        String email,
+        List<GrantedAuthority> authorities
+) implements UserDetails {
+
+    public JwtUserPrincipal {
+        authorities = List.copyOf(authorities);
+    }
+
+    public static JwtUserPrincipal of(UUID id, String email, Collection<String> roles) {
+        return new JwtUserPrincipal(
+                id,
+                email,
+                roles.stream()
+                        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                        .toList()
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
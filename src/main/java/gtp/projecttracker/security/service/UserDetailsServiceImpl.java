@@ -1,5 +1,6 @@
 package gtp.projecttracker.security.service;
 
+import gtp.projecttracker.config.CacheConfig;
 import gtp.projecttracker.model.jpa.User;
 import gtp.projecttracker.repository.jpa.UserRepository;
 
@@ -18,7 +19,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
-    @Cacheable(value = "users", key = "#email")
+    @Cacheable(value = CacheConfig.CACHE_USER_DETAILS, key = "#email")
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
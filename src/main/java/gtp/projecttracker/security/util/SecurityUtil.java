@@ -1,37 +1,100 @@
 package gtp.projecttracker.security.util;
 
 import gtp.projecttracker.exception.ResourceNotFoundException;
-import gtp.projecttracker.model.jpa.Task;
 import gtp.projecttracker.repository.jpa.TaskRepository;
+import gtp.projecttracker.repository.jpa.UserRepository;
+import gtp.projecttracker.security.service.JwtUserPrincipal;
 import gtp.projecttracker.security.service.UserDetailsImpl;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
 public class SecurityUtil {
     private static final String ADMIN_ROLE = "ROLE_ADMIN";
     private static final String MANAGER_ROLE = "ROLE_MANAGER";
+    private static final String OWNERSHIP_CACHE_ATTRIBUTE = SecurityUtil.class.getName() + ".taskOwnership";
 
     TaskRepository taskRepository;
+    UserRepository userRepository;
 
-    public SecurityUtil(TaskRepository taskRepository) {
+    public SecurityUtil(TaskRepository taskRepository, UserRepository userRepository) {
         this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
     }
 
+    /**
+     * Checks whether the task is assigned to the authenticated user.
+     * <p>
+     * The lookup is a single query and its result is cached for the rest of the current request,
+     * keyed by task and principal, so the {@code @PreAuthorize} check and the service-level check
+     * of the same request share one database round-trip.
+     * </p>
+     *
+     * @throws ResourceNotFoundException if the task does not exist
+     */
     public boolean isTaskOwner(UUID taskId) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) return false;
 
-        Task task = taskRepository.findById(taskId)
+        TaskOwnership key = new TaskOwnership(taskId, auth.getName());
+        Map<TaskOwnership, Boolean> cache = requestOwnershipCache();
+        Boolean cached = cache != null ? cache.get(key) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean owner = taskRepository.isAssignedTo(taskId, key.principal())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if (cache != null) {
+            cache.put(key, owner);
+        }
+        return owner;
+    }
+
+    /**
+     * Drops cached ownership results for a task, e.g. after it has been reassigned.
+     */
+    public void evictTaskOwnership(UUID taskId) {
+        Map<TaskOwnership, Boolean> cache = requestOwnershipCache();
+        if (cache != null) {
+            cache.keySet().removeIf(key -> key.taskId().equals(taskId));
+        }
+    }
+
+    /**
+     * Drops all cached ownership results, e.g. after a bulk reassignment.
+     */
+    public void evictAllTaskOwnership() {
+        Map<TaskOwnership, Boolean> cache = requestOwnershipCache();
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<TaskOwnership, Boolean> requestOwnershipCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Object cache = attributes.getAttribute(OWNERSHIP_CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new HashMap<TaskOwnership, Boolean>();
+            attributes.setAttribute(OWNERSHIP_CACHE_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<TaskOwnership, Boolean>) cache;
+    }
 
-        String currentEmail = auth.getName();
-        return task.getAssignee() != null &&
-                task.getAssignee().getEmail().equals(currentEmail);
+    private record TaskOwnership(UUID taskId, String principal) {
     }
 
     public boolean isAdmin() {
@@ -57,8 +120,51 @@ public class SecurityUtil {
         return isAdmin() || isManager();
     }
 
+    /**
+     * Returns the full user details of the authenticated user. When the request was
+     * authenticated statelessly from token claims, the user is loaded on demand.
+     */
     public UserDetailsImpl getCurrentUser() {
-        return (UserDetailsImpl) SecurityContextHolder.getContext()
+        Object principal = SecurityContextHolder.getContext()
                 .getAuthentication().getPrincipal();
+
+        if (principal instanceof JwtUserPrincipal jwtPrincipal) {
+            return userRepository.findById(jwtPrincipal.id())
+                    .map(UserDetailsImpl::new)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        }
+        return (UserDetailsImpl) principal;
+    }
+
+    /**
+     * Checks whether the given user ID belongs to the authenticated user.
+     */
+    public boolean isCurrentUser(UUID userId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || userId == null) {
+            return false;
+        }
+
+        Object principal = auth.getPrincipal();
+        if (principal instanceof JwtUserPrincipal jwtPrincipal) {
+            return userId.equals(jwtPrincipal.id());
+        }
+        if (principal instanceof UserDetailsImpl details) {
+            return userId.equals(details.getUser().getId());
+        }
+        return false;
+    }
+
+    /**
+     * Returns the ID of the authenticated user without touching the database.
+     */
+    public UUID getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext()
+                .getAuthentication().getPrincipal();
+
+        if (principal instanceof JwtUserPrincipal jwtPrincipal) {
+            return jwtPrincipal.id();
+        }
+        return ((UserDetailsImpl) principal).getUser().getId();
     }
 }
\ No newline at end of file
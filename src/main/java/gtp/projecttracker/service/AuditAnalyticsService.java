@@ -0,0 +1,187 @@
+package gtp.projecttracker.service;
+
+import gtp.projecttracker.config.CacheConfig;
+import gtp.projecttracker.dto.response.audit.ActorActivityResponse;
+import gtp.projecttracker.dto.response.audit.EntityChangeFrequencyResponse;
+import gtp.projecttracker.dto.response.audit.FailedLoginBucketResponse;
+import gtp.projecttracker.model.mongodb.AuditLog;
+import gtp.projecttracker.model.mongodb.AuditLog.ActionType;
+
+import org.bson.Document;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audit log statistics computed by MongoDB aggregation pipelines.
+ * <p>
+ * Only the grouped results leave the database. Every pipeline starts with a {@code $match}
+ * on the time window (and action type where relevant), which the compound audit indexes
+ * serve. Results are cached for a short window in the
+ * {@value CacheConfig#CACHE_AUDIT_ANALYTICS} cache, so dashboards polling the same window
+ * share one aggregation.
+ * </p>
+ */
+@Service
+public class AuditAnalyticsService {
+    private static final int MAX_RESULTS = 1000;
+    private static final long MAX_AGGREGATION_TIME_SECONDS = 30;
+
+    private final MongoTemplate mongoTemplate;
+
+    public AuditAnalyticsService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Counts the actions of each actor per hour, oldest hour first.
+     *
+     * @param from Start of the window, inclusive
+     * @param to End of the window, exclusive
+     * @param actorName Only count this actor's actions, or null for all actors
+     * @return Up to {@value #MAX_RESULTS} actor-hour counts
+     */
+    @Cacheable(cacheNames = CacheConfig.CACHE_AUDIT_ANALYTICS, key = "{'actorActivity', #from, #to, #actorName}")
+    public List<ActorActivityResponse> getActorActivityPerHour(Instant from, Instant to, String actorName) {
+        Document match = inWindow(from, to);
+        if (actorName != null) {
+            match.append("actorName", actorName);
+        }
+
+        List<Document> pipeline = List.of(
+                new Document("$match", match),
+                new Document("$group", new Document("_id", new Document("actor", "$actorName")
+                        .append("hour", truncate("hour", 1)))
+                        .append("actions", new Document("$sum", 1))),
+                new Document("$sort", new Document("_id.hour", 1).append("actions", -1)),
+                new Document("$limit", MAX_RESULTS));
+
+        return aggregate(pipeline).stream()
+                .map(row -> {
+                    Document id = row.get("_id", Document.class);
+                    return new ActorActivityResponse(
+                            id.getString("actor"),
+                            toInstant(id.getDate("hour")),
+                            count(row, "actions"));
+                })
+                .toList();
+    }
+
+    /**
+     * Counts failed logins per IP address and time bucket, most attempts first.
+     *
+     * @param from Start of the window, inclusive
+     * @param to End of the window, exclusive
+     * @param bucketMinutes Width of each time bucket in minutes
+     * @param minAttempts Only return buckets with at least this many attempts
+     * @return Up to {@value #MAX_RESULTS} IP-bucket counts
+     */
+    @Cacheable(cacheNames = CacheConfig.CACHE_AUDIT_ANALYTICS,
+            key = "{'failedLogins', #from, #to, #bucketMinutes, #minAttempts}")
+    public List<FailedLoginBucketResponse> getFailedLoginsPerIp(Instant from, Instant to,
+                                                                int bucketMinutes, int minAttempts) {
+        List<Document> pipeline = List.of(
+                new Document("$match", inWindow(from, to)
+                        .append("actionType", ActionType.LOGIN_FAILURE.name())),
+                new Document("$group", new Document("_id", new Document("ip", "$ipAddress")
+                        .append("bucket", truncate("minute", bucketMinutes)))
+                        .append("attempts", new Document("$sum", 1))),
+                new Document("$match", new Document("attempts", new Document("$gte", minAttempts))),
+                new Document("$sort", new Document("attempts", -1).append("_id.bucket", -1)),
+                new Document("$limit", MAX_RESULTS));
+
+        return aggregate(pipeline).stream()
+                .map(row -> {
+                    Document id = row.get("_id", Document.class);
+                    return new FailedLoginBucketResponse(
+                            id.getString("ip"),
+                            toInstant(id.getDate("bucket")),
+                            count(row, "attempts"));
+                })
+                .toList();
+    }
+
+    /**
+     * Counts the create, update and delete actions per entity, most changed first.
+     *
+     * @param from Start of the window, inclusive
+     * @param to End of the window, exclusive
+     * @param entityType Only count entities of this type, or null for all types
+     * @param limit The maximum number of entities to return
+     * @return The most frequently changed entities
+     */
+    @Cacheable(cacheNames = CacheConfig.CACHE_AUDIT_ANALYTICS,
+            key = "{'entityChanges', #from, #to, #entityType, #limit}")
+    public List<EntityChangeFrequencyResponse> getEntityChangeFrequency(Instant from, Instant to,
+                                                                        String entityType, int limit) {
+        Document match = inWindow(from, to)
+                .append("actionType", new Document("$in", List.of(
+                        ActionType.CREATE.name(), ActionType.UPDATE.name(), ActionType.DELETE.name())));
+        if (entityType != null) {
+            match.append("entityType", entityType);
+        }
+
+        List<Document> pipeline = List.of(
+                new Document("$match", match),
+                new Document("$group", new Document("_id", new Document("type", "$entityType")
+                        .append("id", "$entityId"))
+                        .append("changes", new Document("$sum", 1))
+                        .append("creates", countOf(ActionType.CREATE))
+                        .append("updates", countOf(ActionType.UPDATE))
+                        .append("deletes", countOf(ActionType.DELETE))
+                        .append("lastChanged", new Document("$max", "$timestamp"))),
+                new Document("$sort", new Document("changes", -1).append("lastChanged", -1)),
+                new Document("$limit", Math.max(1, Math.min(limit, MAX_RESULTS))));
+
+        return aggregate(pipeline).stream()
+                .map(row -> {
+                    Document id = row.get("_id", Document.class);
+                    return new EntityChangeFrequencyResponse(
+                            id.getString("type"),
+                            id.getString("id"),
+                            count(row, "changes"),
+                            count(row, "creates"),
+                            count(row, "updates"),
+                            count(row, "deletes"),
+                            toInstant(row.getDate("lastChanged")));
+                })
+                .toList();
+    }
+
+    private List<Document> aggregate(List<Document> pipeline) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(AuditLog.class))
+                .aggregate(pipeline)
+                .allowDiskUse(true)
+                .maxTime(MAX_AGGREGATION_TIME_SECONDS, TimeUnit.SECONDS)
+                .into(new ArrayList<>());
+    }
+
+    private static Document inWindow(Instant from, Instant to) {
+        return new Document("timestamp", new Document("$gte", Date.from(from)).append("$lt", Date.from(to)));
+    }
+
+    private static Document truncate(String unit, int binSize) {
+        return new Document("$dateTrunc", new Document("date", "$timestamp")
+                .append("unit", unit)
+                .append("binSize", binSize));
+    }
+
+    private static Document countOf(ActionType actionType) {
+        return new Document("$sum", new Document("$cond", List.of(
+                new Document("$eq", List.of("$actionType", actionType.name())), 1, 0)));
+    }
+
+    private static long count(Document row, String field) {
+        return row.get(field, Number.class).longValue();
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
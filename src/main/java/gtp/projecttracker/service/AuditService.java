@@ -1,49 +1,168 @@
 package gtp.projecttracker.service;
 
+import gtp.projecttracker.audit.AuditEvent;
+import gtp.projecttracker.audit.AuditLogWriter;
+import gtp.projecttracker.dto.request.audit.AuditLogFilter;
+import gtp.projecttracker.dto.response.CursorPage;
 import gtp.projecttracker.model.mongodb.AuditLog;
+import gtp.projecttracker.pagination.AuditLogCursor;
 import gtp.projecttracker.repository.mongodb.AuditLogRepository;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class AuditService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "timestamp", "_id");
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public AuditService(AuditLogRepository auditLogRepository) {
+    public AuditService(AuditLogRepository auditLogRepository,
+                        AuditLogWriter auditLogWriter,
+                        MongoTemplate mongoTemplate,
+                        ObjectMapper objectMapper) {
         this.auditLogRepository = auditLogRepository;
+        this.auditLogWriter = auditLogWriter;
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
     }
 
     public Page<AuditLog> getAllAuditLogs(Pageable pageable) {
         return auditLogRepository.findAll(pageable);
     }
 
-    public List<AuditLog> getAuditLogsByEntityType(String entityType) {
-        return auditLogRepository.findByEntityType(entityType);
+    public Page<AuditLog> getAuditLogsByEntityType(String entityType, Pageable pageable) {
+        return auditLogRepository.findByEntityType(entityType, pageable);
     }
 
-    public List<AuditLog> getAuditLogsByActor(String actorName) {
-        return auditLogRepository.findByActorName(actorName);
+    public Page<AuditLog> getAuditLogsByActor(String actorName, Pageable pageable) {
+        return auditLogRepository.findByActorName(actorName, pageable);
     }
 
     public AuditLog saveAuditLog(AuditLog log) {
         return auditLogRepository.save(log);
     }
 
-    public List<AuditLog> getAuditLogsByDateRange(String startDateStr, String endDateStr) {
+    public Page<AuditLog> getAuditLogsByDateRange(String startDateStr, String endDateStr, Pageable pageable) {
         Instant start = parseDateToInstant(startDateStr, false);
         Instant end = parseDateToInstant(endDateStr, true);
 
-        return auditLogRepository.findByTimestampBetween(start, end);
+        return auditLogRepository.findByTimestampBetween(start, end, pageable);
+    }
+
+    /**
+     * Returns one keyset page of audit logs matching the filter, newest first.
+     *
+     * @param filter The criteria to apply
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size The requested page size, capped at {@value #MAX_CURSOR_PAGE_SIZE}
+     * @return The page and the cursor for the next one
+     */
+    public CursorPage<AuditLog> getAuditLogsAfterCursor(AuditLogFilter filter, String cursor, int size) {
+        AuditLogCursor after = AuditLogCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        List<Criteria> criteria = toCriteria(filter);
+        if (after != null) {
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("timestamp").lt(after.timestamp()),
+                    Criteria.where("timestamp").is(after.timestamp()).and("_id").lt(after.id())));
+        }
+        Query query = toQuery(criteria).limit(pageSize + 1);
+
+        List<AuditLog> rows = mongoTemplate.find(query, AuditLog.class);
+        boolean hasNext = rows.size() > pageSize;
+        List<AuditLog> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext ? AuditLogCursor.after(page.get(page.size() - 1)).encode() : null;
+        return CursorPage.of(page, nextCursor);
+    }
+
+    /**
+     * Writes all audit logs matching the filter to the stream as newline-delimited JSON,
+     * newest first. Documents are written as they are read from the Mongo cursor, so memory
+     * use does not depend on the number of matching entries.
+     *
+     * @param filter The criteria to apply
+     * @param out The stream to write to; it is flushed but not closed
+     * @throws IOException if writing to the stream fails
+     */
+    public void exportAuditLogs(AuditLogFilter filter, OutputStream out) throws IOException {
+        Query query = toQuery(toCriteria(filter)).cursorBatchSize(EXPORT_BATCH_SIZE);
+
+        try (Stream<AuditLog> logs = mongoTemplate.stream(query, AuditLog.class);
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            boolean empty = true;
+            for (AuditLog log : (Iterable<AuditLog>) logs::iterator) {
+                writer.write(log);
+                empty = false;
+            }
+            writer.flush();
+            if (!empty) {
+                out.write('\n');
+            }
+        }
+    }
+
+    private List<Criteria> toCriteria(AuditLogFilter filter) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (filter.entityType() != null) {
+            criteria.add(Criteria.where("entityType").is(filter.entityType()));
+        }
+        if (filter.actorName() != null) {
+            criteria.add(Criteria.where("actorName").is(filter.actorName()));
+        }
+        if (filter.actionType() != null) {
+            criteria.add(Criteria.where("actionType").is(filter.actionType()));
+        }
+        if (filter.from() != null || filter.to() != null) {
+            Criteria timestamp = Criteria.where("timestamp");
+            if (filter.from() != null) {
+                timestamp.gte(filter.from());
+            }
+            if (filter.to() != null) {
+                timestamp.lt(filter.to());
+            }
+            criteria.add(timestamp);
+        }
+        return criteria;
+    }
+
+    private Query toQuery(List<Criteria> criteria) {
+        Query query = criteria.isEmpty()
+                ? new Query()
+                : new Query(new Criteria().andOperator(criteria));
+        return query.with(NEWEST_FIRST);
     }
 
     private Instant parseDateToInstant(String dateStr, boolean endOfDay) {
@@ -58,12 +177,6 @@ public class AuditService {
     }
 
     public void logAction(AuditLog.ActionType actionType, String entityType, String entityId, String actorName, String payload) {
-        AuditLog log = new AuditLog();
-        log.setActionType(actionType);
-        log.setEntityType(entityType);
-        log.setEntityId(entityId);
-        log.setActorName(actorName);
-        log.setPayload(payload);
-        auditLogRepository.save(log);
+        auditLogWriter.submit(AuditEvent.ofEntity(actionType, entityType, entityId, actorName, payload));
     }
 }
@@ -1,7 +1,29 @@
 package gtp.projecttracker.service;
 
+import jakarta.mail.internet.MimeMessage;
+
+import java.util.List;
+
 public interface EmailService {
     void sendEmail(String to, String subject, String body);
 
     void sendEmailWithTemplate(String to, String subject, String templateName, Object context);
+
+    /**
+     * Builds a ready-to-send HTML message without sending it.
+     *
+     * @param to Recipient address
+     * @param subject Message subject
+     * @param htmlBody Rendered HTML body
+     * @return The prepared message
+     */
+    MimeMessage createEmail(String to, String subject, String htmlBody);
+
+    /**
+     * Sends several prepared messages over a single SMTP connection.
+     *
+     * @param messages Messages created by {@link #createEmail}
+     * @return The messages that could not be sent, empty if all were delivered
+     */
+    List<MimeMessage> sendBatch(List<MimeMessage> messages);
 }
\ No newline at end of file
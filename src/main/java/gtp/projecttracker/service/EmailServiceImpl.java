@@ -2,17 +2,21 @@ package gtp.projecttracker.service;
 
 import gtp.projecttracker.config.EmailProperties;
 import gtp.projecttracker.exception.EmailException;
+import gtp.projecttracker.notification.EmailTemplateRenderer;
 import jakarta.annotation.PostConstruct;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -20,14 +24,14 @@ import java.util.Objects;
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private final EmailTemplateRenderer templateRenderer;
     private final EmailProperties emailProperties;
 
     public EmailServiceImpl(JavaMailSender mailSender,
-                            TemplateEngine templateEngine,
+                            EmailTemplateRenderer templateRenderer,
                             EmailProperties emailProperties) {
         this.mailSender = mailSender;
-        this.templateEngine = templateEngine;
+        this.templateRenderer = templateRenderer;
         this.emailProperties = emailProperties;
     }
 
@@ -48,6 +52,44 @@ public class EmailServiceImpl implements EmailService {
 
     @Override
     public void sendEmail(String to, String subject, String body) {
+        mailSender.send(createEmail(to, subject, body));
+    }
+
+    @Override
+    public void sendEmailWithTemplate(String to, String subject, String templateName, Object context) {
+        String htmlBody = renderTemplate(templateName, context);
+        try {
+            sendEmail(to, subject, htmlBody);
+        } catch (MailException e) {
+            throw new EmailException("Failed to send email to " + to, e);
+        }
+    }
+
+    @Override
+    public List<MimeMessage> sendBatch(List<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            // JavaMailSenderImpl sends all messages of one call over a single transport connection
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+            return List.of();
+        } catch (MailSendException e) {
+            List<MimeMessage> failed = new ArrayList<>();
+            e.getFailedMessages().keySet().forEach(message -> {
+                if (message instanceof MimeMessage mimeMessage) {
+                    failed.add(mimeMessage);
+                }
+            });
+            return failed.isEmpty() ? messages : failed;
+        } catch (MailException e) {
+            return messages;
+        }
+    }
+
+    @Override
+    public MimeMessage createEmail(String to, String subject, String body) {
         Objects.requireNonNull(emailProperties.from(), "From address must not be null");
 
         try {
@@ -63,27 +105,25 @@ public class EmailServiceImpl implements EmailService {
                 helper.setBcc(emailProperties.adminBcc());
             }
 
-            mailSender.send(message);
+            return message;
         } catch (MessagingException e) {
             throw new EmailException("Failed to send email to " + to, e);
         }
     }
 
-    @Override
-    public void sendEmailWithTemplate(String to, String subject, String templateName, Object context) {
+    private String renderTemplate(String templateName, Object context) {
         try {
-            Context thymeleafContext = new Context();
+            Map<String, Object> variables = new HashMap<>();
 
             if (context instanceof Map<?, ?> map) {
                 map.forEach((key, value) ->
-                        thymeleafContext.setVariable(key.toString(), value)
+                        variables.put(key.toString(), value)
                 );
             } else {
-                thymeleafContext.setVariable("data", context);
+                variables.put("data", context);
             }
 
-            String htmlBody = templateEngine.process("emails/" + templateName, thymeleafContext);
-            sendEmail(to, subject, htmlBody);
+            return templateRenderer.render(templateName, variables);
         } catch (Exception e) {
             throw new EmailException("Failed to process template '" + templateName + "'", e);
         }
@@ -6,6 +6,7 @@ import gtp.projecttracker.dto.response.project.ProjectResponse;
 import gtp.projecttracker.dto.response.project.ProjectSummaryResponse;
 import gtp.projecttracker.dto.response.task.TaskResponse;
 import gtp.projecttracker.event.ProjectUpdatedEvent;
+import gtp.projecttracker.exception.ResourceNotFoundException;
 import gtp.projecttracker.mapper.ProjectMapper;
 import gtp.projecttracker.mapper.TaskMapper;
 import gtp.projecttracker.model.jpa.Project;
@@ -18,8 +19,10 @@ import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -28,7 +31,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProjectService {
@@ -57,12 +64,11 @@ public class ProjectService {
 
     @Cacheable(value = "projects", key = "#id")
     public ProjectResponse getProjectById(UUID id) {
-        Project project = projectRepository.findProjectById(id);
-        return projectMapper.toResponse(project);
+        return toResponseWithCounts(id);
     }
 
     @Transactional
-    @CacheEvict(value = "projects", allEntries = true)
+    @CacheEvict(value = {"projects", "projectLists"}, allEntries = true)
     public ProjectResponse saveProject(CreateProjectRequest projectRequest) {
         Project project = projectMapper.toEntity(projectRequest);
         Project savedProject = projectRepository.save(project);
@@ -92,7 +98,7 @@ public class ProjectService {
                 statusChanged
         ));
 
-        return projectMapper.toResponse(updatedProject);
+        return toResponseWithCounts(updatedProject.getId());
     }
 
     @Transactional
@@ -118,11 +124,14 @@ public class ProjectService {
                 statusChanged
         ));
 
-        return projectMapper.toResponse(patchedProject);
+        return toResponseWithCounts(patchedProject.getId());
     }
 
     @Transactional
-    @CacheEvict(value = "projects", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "projects", key = "#id"),
+            @CacheEvict(value = "projectLists", allEntries = true)
+    })
     public void deleteProject(UUID id) {
         if (!existsById(id)) {
             throw new EntityNotFoundException("Project not found with id: " + id);
@@ -131,30 +140,53 @@ public class ProjectService {
         projectRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProjectSummaryResponse> getAllProjects(Pageable pageable, boolean includeTasks) {
         if (includeTasks) {
-            return projectRepository.findAllWithTasks(pageable)
-                    .map(projectMapper::toSummaryResponse);
+            return getProjectPageWithTasks(pageable);
         }
         return projectRepository.findAll(pageable)
                 .map(projectMapper::toSummaryResponse);
     }
 
+    /**
+     * Pages projects together with their tasks in two queries: a database-paged query for the
+     * project IDs, then a fetch join restricted to exactly those IDs. Memory and latency are
+     * bounded by the page size rather than by the size of the projects x tasks join.
+     */
+    private Page<ProjectSummaryResponse> getProjectPageWithTasks(Pageable pageable) {
+        Page<UUID> ids = projectRepository.findPageOfIds(pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<UUID, Project> projectsById = projectRepository.findAllWithTasksByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        List<ProjectSummaryResponse> content = ids.getContent().stream()
+                .map(projectsById::get)
+                .filter(Objects::nonNull)
+                .map(project -> projectMapper.toSummaryResponse(project, project.getTasks().stream()
+                        .map(taskMapper::toSummaryResponse)
+                        .toList()))
+                .toList();
+
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
 
     public Page<ProjectResponse> getAllProjectsWithTasks(Pageable pageable) {
-        return projectRepository.findAllWithTasks(pageable)
+        return projectRepository.findAllTaskSummaries(pageable)
                 .map(projectMapper::toResponse);
     }
 
     public List<ProjectResponse> getProjectsWithoutTasks() {
-        List<Project> projects = projectRepository.findProjectsWithoutTasks();
-        return projectMapper.toResponseList(projects);
+        return projectMapper.toResponseList(projectRepository.findTaskSummariesWithoutTasks());
     }
 
     @Cacheable(value = "projectLists", key = "{#status.name()}")
     public List<ProjectResponse> getProjectsByStatus(ProjectStatus status) {
-        List<Project> projects = projectRepository.findByStatus(Project.ProjectStatus.valueOf(status.name()));
-        return projectMapper.toResponseList(projects);
+        return projectMapper.toResponseList(projectRepository.findTaskSummariesByStatus(status));
     }
 
     public Project getProjectEntityById(UUID uuid) {
@@ -245,7 +277,16 @@ public class ProjectService {
                 statusChanged
         ));
 
-        return projectMapper.toResponse(updatedProject);
+        return toResponseWithCounts(updatedProject.getId());
+    }
+
+    /**
+     * Builds the response from a single grouped query instead of initializing the task collection.
+     */
+    private ProjectResponse toResponseWithCounts(UUID id) {
+        return projectRepository.findTaskSummaryById(id)
+                .map(projectMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
     }
 
     public boolean existsById(UUID projectId) {
@@ -0,0 +1,309 @@
+package gtp.projecttracker.service;
+
+import gtp.projecttracker.audit.AuditEvent;
+import gtp.projecttracker.audit.AuditLogWriter;
+import gtp.projecttracker.audit.RequestMetadata;
+import gtp.projecttracker.dto.request.task.CreateTaskRequest;
+import gtp.projecttracker.dto.response.task.TaskImportEvent;
+import gtp.projecttracker.model.mongodb.AuditLog;
+import gtp.projecttracker.repository.jpa.ProjectRepository;
+import gtp.projecttracker.taskimport.TaskImportFormat;
+import gtp.projecttracker.taskimport.TaskImportReader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Imports tasks from a CSV or NDJSON stream.
+ * <p>
+ * Rows are parsed one at a time as the request body arrives and validated like
+ * {@code POST /api/v1/tasks}. Valid rows are collected into chunks of
+ * {@code app.tasks.import.chunk-size}; the projects and assignees a chunk references are
+ * checked with one query each, and the chunk is committed in its own transaction through
+ * {@link TaskService#createImportedTasks}. Each committed chunk is recorded by a single audit
+ * entry instead of one per task.
+ * </p>
+ * <p>
+ * Progress is written to the response as NDJSON {@link TaskImportEvent}s: one line per rejected
+ * row, one per committed chunk, and a final {@code COMPLETED} or {@code FAILED} line. A failed
+ * chunk stops the import; the chunks committed before it are kept.
+ * </p>
+ */
+@Service
+public class TaskImportService {
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+    private static final String ENTITY_TYPE = "Task";
+
+    private final TaskService taskService;
+    private final ProjectRepository projectRepository;
+    private final UserService userService;
+    private final AuditLogWriter auditLogWriter;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter eventWriter;
+    private final Validator validator;
+    private final int chunkSize;
+
+    /**
+     * Constructs a new TaskImportService with the required dependencies.
+     *
+     * @param taskService Service creating each chunk of tasks in one transaction
+     * @param projectRepository Repository used to check referenced projects
+     * @param userService Service used to check referenced assignees
+     * @param auditLogWriter Asynchronous writer receiving one audit entry per chunk
+     * @param objectMapper JSON mapper for NDJSON rows, progress lines and audit payloads
+     * @param validator Validator applying the {@link CreateTaskRequest} constraints
+     * @param chunkSize Number of valid rows committed per transaction
+     */
+    public TaskImportService(TaskService taskService,
+                             ProjectRepository projectRepository,
+                             UserService userService,
+                             AuditLogWriter auditLogWriter,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Value("${app.tasks.import.chunk-size:500}") int chunkSize) {
+        this.taskService = taskService;
+        this.projectRepository = projectRepository;
+        this.userService = userService;
+        this.auditLogWriter = auditLogWriter;
+        this.objectMapper = objectMapper;
+        this.eventWriter = objectMapper.writerFor(TaskImportEvent.class);
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports the tasks in the body and streams progress to {@code out}.
+     *
+     * @param body The request body
+     * @param format The format of the body
+     * @param actorName The user running the import, recorded in its audit entries
+     * @param request The request the import was started from, recorded in its audit entries
+     * @param out The stream progress lines are written to; it is flushed but not closed
+     * @throws IOException if writing to the stream fails
+     */
+    public void importTasks(InputStream body, TaskImportFormat format, String actorName,
+                            RequestMetadata request, OutputStream out) throws IOException {
+        new ImportRun(actorName, request, out).run(body, format);
+    }
+
+    /**
+     * State of a single import: counters, the chunk being collected, and the project and user
+     * IDs already looked up, so each referenced ID is queried at most once per import.
+     */
+    private final class ImportRun {
+        private final UUID importId = UUID.randomUUID();
+        private final String actorName;
+        private final RequestMetadata request;
+        private final OutputStream out;
+
+        private final List<PendingTask> chunk = new ArrayList<>(chunkSize);
+        private final Set<UUID> knownProjects = new HashSet<>();
+        private final Set<UUID> missingProjects = new HashSet<>();
+        private final Set<UUID> knownUsers = new HashSet<>();
+        private final Set<UUID> missingUsers = new HashSet<>();
+
+        private int rowsRead;
+        private int created;
+        private int rejected;
+        private int chunks;
+        private int chunkFirstRow = 1;
+        private int chunkRejectedBefore;
+
+        ImportRun(String actorName, RequestMetadata request, OutputStream out) {
+            this.actorName = actorName;
+            this.request = request;
+            this.out = out;
+        }
+
+        void run(InputStream body, TaskImportFormat format) throws IOException {
+            log.info("Task import {} started by {} ({})", importId, actorName, format);
+            try (TaskImportReader reader = TaskImportReader.open(body, format, objectMapper)) {
+                TaskImportReader.Row row;
+                while ((row = reader.next()) != null) {
+                    rowsRead = row.number();
+                    accept(row);
+                    if (chunk.size() == chunkSize) {
+                        commitChunk();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    commitChunk();
+                }
+                emit(TaskImportEvent.completed(importId, chunks, rowsRead, created, rejected));
+                flush();
+            } catch (UncheckedIOException e) {
+                // Writing progress failed, so the client is gone and nothing more can be reported
+                log.warn("Task import {} aborted after {} rows: {}", importId, rowsRead, e.getCause().getMessage());
+                throw e.getCause();
+            } catch (IOException e) {
+                fail("Input could not be read after row " + rowsRead + ": " + e.getMessage(), e);
+                return;
+            } catch (RuntimeException e) {
+                fail("Chunk " + (chunks + 1) + " was not committed: " + e.getMessage(), e);
+                return;
+            }
+
+            log.info("Task import {} completed: {} rows read, {} tasks created, {} rows rejected",
+                    importId, rowsRead, created, rejected);
+        }
+
+        private void accept(TaskImportReader.Row row) {
+            if (row.error() != null) {
+                reject(row.number(), row.error());
+                return;
+            }
+
+            CreateTaskRequest task;
+            try {
+                task = row.values().toRequest();
+            } catch (IllegalArgumentException e) {
+                reject(row.number(), e.getMessage());
+                return;
+            }
+
+            Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(task);
+            if (!violations.isEmpty()) {
+                reject(row.number(), violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+
+            chunk.add(new PendingTask(row.number(), task));
+        }
+
+        /**
+         * Rejects rows referencing missing projects or users, then commits the rest of the chunk
+         * and records it with one audit entry.
+         */
+        private void commitChunk() {
+            resolveReferences();
+
+            List<CreateTaskRequest> requests = new ArrayList<>(chunk.size());
+            for (PendingTask pending : chunk) {
+                if (pending.task().projectId() != null && missingProjects.contains(pending.task().projectId())) {
+                    reject(pending.row(), "Project not found with id: " + pending.task().projectId());
+                } else if (pending.task().assigneeId() != null && missingUsers.contains(pending.task().assigneeId())) {
+                    reject(pending.row(), "User not found with id: " + pending.task().assigneeId());
+                } else {
+                    requests.add(pending.task());
+                }
+            }
+
+            if (!requests.isEmpty()) {
+                List<UUID> taskIds = taskService.createImportedTasks(requests);
+                chunks++;
+                created += taskIds.size();
+                audit(taskIds);
+            }
+
+            emit(TaskImportEvent.progress(importId, chunks, rowsRead, created, rejected));
+            flush();
+            chunk.clear();
+            chunkFirstRow = rowsRead + 1;
+            chunkRejectedBefore = rejected;
+        }
+
+        private void resolveReferences() {
+            Set<UUID> projectIds = new HashSet<>();
+            Set<UUID> userIds = new HashSet<>();
+            for (PendingTask pending : chunk) {
+                UUID projectId = pending.task().projectId();
+                if (projectId != null && !knownProjects.contains(projectId) && !missingProjects.contains(projectId)) {
+                    projectIds.add(projectId);
+                }
+                UUID assigneeId = pending.task().assigneeId();
+                if (assigneeId != null && !knownUsers.contains(assigneeId) && !missingUsers.contains(assigneeId)) {
+                    userIds.add(assigneeId);
+                }
+            }
+
+            if (!projectIds.isEmpty()) {
+                List<UUID> found = projectRepository.findExistingIds(projectIds);
+                knownProjects.addAll(found);
+                found.forEach(projectIds::remove);
+                missingProjects.addAll(projectIds);
+            }
+            if (!userIds.isEmpty()) {
+                Set<UUID> found = userService.findExistingIds(userIds);
+                knownUsers.addAll(found);
+                userIds.removeAll(found);
+                missingUsers.addAll(userIds);
+            }
+        }
+
+        private void audit(List<UUID> taskIds) {
+            ObjectNode payload = objectMapper.createObjectNode();
+            payload.put("importId", importId.toString());
+            payload.put("chunk", chunks);
+            payload.put("firstRow", chunkFirstRow);
+            payload.put("lastRow", rowsRead);
+            payload.put("created", taskIds.size());
+            payload.put("rejected", rejected - chunkRejectedBefore);
+            ArrayNode ids = payload.putArray("taskIds");
+            taskIds.forEach(id -> ids.add(id.toString()));
+
+            auditLogWriter.submit(new AuditEvent(AuditLog.ActionType.CREATE, ENTITY_TYPE, importId.toString(),
+                    actorName, payload, request, Instant.now()));
+        }
+
+        private void reject(int row, String message) {
+            rejected++;
+            emit(TaskImportEvent.rowError(row, message));
+        }
+
+        private void fail(String message, Exception cause) throws IOException {
+            log.error("Task import {} failed after {} rows: {}", importId, rowsRead, message, cause);
+            try {
+                emit(TaskImportEvent.failed(importId, message, chunks, rowsRead, created, rejected));
+                flush();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void emit(TaskImportEvent event) {
+            try {
+                out.write(eventWriter.writeValueAsBytes(event));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void flush() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * A validated row waiting for its chunk to be committed.
+     */
+    private record PendingTask(int row, CreateTaskRequest task) {
+    }
+}
@@ -1,63 +1,97 @@
 package gtp.projecttracker.service;
 
+import gtp.projecttracker.cache.TaskResponseCache;
 import gtp.projecttracker.dto.request.task.AssignTaskRequest;
 import gtp.projecttracker.dto.request.task.CreateTaskRequest;
 import gtp.projecttracker.dto.request.task.UpdateTaskRequest;
+import gtp.projecttracker.dto.response.CursorPage;
+import gtp.projecttracker.dto.response.task.BulkCreateTaskResponse;
 import gtp.projecttracker.dto.response.task.TaskResponse;
 import gtp.projecttracker.dto.response.task.TaskSummaryResponse;
-import gtp.projecttracker.event.TaskOverdueEvent;
+import gtp.projecttracker.event.TaskAssignmentEvent;
+import gtp.projecttracker.event.TaskDeletedEvent;
+import gtp.projecttracker.event.TaskStatusChangedEvent;
+import gtp.projecttracker.event.TaskUpdatedEvent;
+import gtp.projecttracker.event.TaskWorkloadChangedEvent;
 import gtp.projecttracker.exception.ResourceNotFoundException;
 import gtp.projecttracker.mapper.TaskMapper;
+import gtp.projecttracker.model.jpa.Project;
 import gtp.projecttracker.model.jpa.Task;
 import gtp.projecttracker.model.jpa.Task.Status;
 import gtp.projecttracker.model.jpa.Task.Priority;
 import gtp.projecttracker.model.jpa.User;
+import gtp.projecttracker.notification.OverdueTaskScanner;
+import gtp.projecttracker.pagination.TaskCursor;
+import gtp.projecttracker.repository.jpa.ProjectRepository;
 import gtp.projecttracker.repository.jpa.TaskRepository;
+import gtp.projecttracker.repository.jpa.projection.OverdueTaskView;
 import gtp.projecttracker.security.util.SecurityUtil;
+import gtp.projecttracker.workload.TaskWorkload;
 
+import jakarta.persistence.EntityManager;
 import org.apache.coyote.BadRequestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @Service
 public class TaskService {
     private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
     private final UserService userService;
     private final TaskMapper taskMapper;
+    private final OverdueTaskScanner overdueTaskScanner;
+    private final TaskResponseCache taskResponseCache;
     private final ApplicationEventPublisher eventPublisher;
-    private final Map<UUID, LocalDate> lastNotificationSent = new ConcurrentHashMap<>();
+    private final EntityManager entityManager;
+    private final int batchSize;
 
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
     private final SecurityUtil securityUtil;
 
     @Autowired
     public TaskService(TaskRepository taskRepository,
+                       ProjectRepository projectRepository,
                        UserService userService,
                        TaskMapper taskMapper,
-                       ApplicationEventPublisher eventPublisher, SecurityUtil securityUtil) {
+                       SecurityUtil securityUtil,
+                       OverdueTaskScanner overdueTaskScanner,
+                       TaskResponseCache taskResponseCache,
+                       ApplicationEventPublisher eventPublisher,
+                       EntityManager entityManager,
+                       @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
         this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
         this.userService = userService;
         this.taskMapper = taskMapper;
-        this.eventPublisher = eventPublisher;
         this.securityUtil = securityUtil;
+        this.overdueTaskScanner = overdueTaskScanner;
+        this.taskResponseCache = taskResponseCache;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
     }
 
     public Page<TaskSummaryResponse> getTasks(Pageable pageable) {
@@ -65,6 +99,81 @@ public class TaskService {
                 .map(taskMapper::toSummaryResponse);
     }
 
+    /**
+     * Returns one keyset page of all tasks ordered by due date.
+     *
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size The requested page size, capped at {@value #MAX_CURSOR_PAGE_SIZE}
+     * @return The page and the cursor for the next one
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskSummaryResponse> getTasksAfterCursor(String cursor, int size) {
+        TaskCursor after = TaskCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+        List<Task> rows = after == null
+                ? taskRepository.findFirstByDueDate(limit)
+                : taskRepository.findByDueDateAfter(after.dueDate(), after.id(), limit);
+        return toCursorPage(rows, limit, taskMapper::toSummaryResponse);
+    }
+
+    /**
+     * Returns one keyset page of overdue tasks ordered by due date.
+     *
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size The requested page size, capped at {@value #MAX_CURSOR_PAGE_SIZE}
+     * @return The page and the cursor for the next one
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getOverdueTasksAfterCursor(String cursor, int size) {
+        TaskCursor after = TaskCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+        LocalDate today = LocalDate.now();
+        List<Task> rows = after == null
+                ? taskRepository.findFirstOverdue(today, limit)
+                : taskRepository.findOverdueAfter(today, after.dueDate(), after.id(), limit);
+        return toCursorPage(rows, limit, taskMapper::toResponse);
+    }
+
+    /**
+     * Returns one keyset page of the tasks assigned to a user, ordered by due date.
+     *
+     * @param userId The assignee's ID
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size The requested page size, capped at {@value #MAX_CURSOR_PAGE_SIZE}
+     * @return The page and the cursor for the next one
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskSummaryResponse> getTasksByUserIdAfterCursor(UUID userId, String cursor, int size) {
+        if (!userService.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+
+        TaskCursor after = TaskCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+        List<Task> rows = after == null
+                ? taskRepository.findFirstByAssignee(userId, limit)
+                : taskRepository.findByAssigneeAfter(userId, after.dueDate(), after.id(), limit);
+        return toCursorPage(rows, limit, taskMapper::toSummaryResponse);
+    }
+
+    /**
+     * Requests one row more than the page size so the presence of a next page is known
+     * without a count query.
+     */
+    private Pageable cursorLimit(int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        return PageRequest.ofSize(pageSize + 1);
+    }
+
+    private <T> CursorPage<T> toCursorPage(List<Task> rows, Pageable limit, Function<Task, T> mapper) {
+        int pageSize = limit.getPageSize() - 1;
+        boolean hasNext = rows.size() > pageSize;
+        List<Task> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext ? TaskCursor.after(page.get(page.size() - 1)).encode() : null;
+        return CursorPage.of(page.stream().map(mapper).toList(), nextCursor);
+    }
+
     public Page<TaskResponse> getTasksByProjectId(UUID projectId, Pageable pageable) {
         if (!taskRepository.existsByProjectId(projectId)) {
             throw new ResourceNotFoundException("Project not found with id: " + projectId);
@@ -73,14 +182,10 @@ public class TaskService {
                 .map(taskMapper::toResponse);
     }
 
-    public List<Object[]> getTaskCountByUser() {
-        return taskRepository.countTasksByUser();
-    }
-
     public TaskResponse getTaskById(UUID taskId) {
-        return taskMapper.toResponse(
-                taskRepository.findTaskById(taskId)
-        );
+        return taskResponseCache.get(taskId, () -> taskRepository.findWithProjectAndAssigneeById(taskId)
+                .map(taskMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId)));
     }
 
     @Transactional
@@ -90,7 +195,109 @@ public class TaskService {
         task.setCreatedAt(LocalDateTime.now());
         task.setUpdatedAt(LocalDateTime.now());
 
-        return taskMapper.toResponse(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        userService.moveTaskAssignment(null, assigneeIdOf(saved));
+        eventPublisher.publishEvent(new TaskWorkloadChangedEvent(saved.getId(), null, TaskWorkload.of(saved)));
+        return taskMapper.toResponse(saved);
+    }
+
+    /**
+     * Creates many tasks in a single transaction: either all of them are created or none.
+     * <p>
+     * Referenced projects and assignees are checked with one query each and attached as
+     * references, without loading them. Tasks are persisted and the persistence context is
+     * flushed and cleared every JDBC batch ({@code hibernate.jdbc.batch_size}), so inserts go
+     * to the database in batches and memory stays bounded. Assignee task counts are adjusted
+     * once per assignee rather than once per task.
+     * </p>
+     *
+     * @param requests The tasks to create
+     * @return The number and IDs of the created tasks, in request order
+     * @throws ResourceNotFoundException If a referenced project or assignee does not exist
+     */
+    @Transactional
+    public BulkCreateTaskResponse createTasks(List<CreateTaskRequest> requests) {
+        Set<UUID> projectIds = idsOf(requests, CreateTaskRequest::projectId);
+        Set<UUID> assigneeIds = idsOf(requests, CreateTaskRequest::assigneeId);
+        requireAll("Project", projectIds,
+                projectIds.isEmpty() ? Set.of() : new HashSet<>(projectRepository.findExistingIds(projectIds)));
+        requireAll("User", assigneeIds, userService.findExistingIds(assigneeIds));
+
+        List<UUID> taskIds = insertTasks(requests, false);
+        log.info("Created {} tasks in bulk", taskIds.size());
+        return new BulkCreateTaskResponse(taskIds.size(), taskIds);
+    }
+
+    /**
+     * Creates one chunk of imported tasks in a single transaction. Unlike {@link #createTasks},
+     * referenced projects and assignees are not checked again, as the importer has already
+     * resolved them, and each task keeps the status given in the import.
+     *
+     * @param requests The validated tasks to create
+     * @return The IDs of the created tasks, in request order
+     */
+    @Transactional
+    public List<UUID> createImportedTasks(List<CreateTaskRequest> requests) {
+        return insertTasks(requests, true);
+    }
+
+    /**
+     * Persists the tasks through references to their projects and assignees, flushing and
+     * clearing the persistence context every JDBC batch, and adjusts the assignees' task counts
+     * once per assignee. Must run in a transaction.
+     */
+    private List<UUID> insertTasks(List<CreateTaskRequest> requests, boolean keepStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> taskIds = new ArrayList<>(requests.size());
+        Map<UUID, Integer> tasksByAssignee = new HashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            Task task = taskMapper.toEntity(request);
+            if (!keepStatus) {
+                task.setStatus(Status.TODO);
+            }
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            if (request.projectId() != null) {
+                task.setProject(entityManager.getReference(Project.class, request.projectId()));
+            }
+            if (request.assigneeId() != null) {
+                task.setAssignee(entityManager.getReference(User.class, request.assigneeId()));
+                tasksByAssignee.merge(request.assigneeId(), 1, Integer::sum);
+            }
+
+            entityManager.persist(task);
+            taskIds.add(task.getId());
+            eventPublisher.publishEvent(new TaskWorkloadChangedEvent(task.getId(), null, TaskWorkload.of(task)));
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        userService.addTaskAssignments(tasksByAssignee);
+        return taskIds;
+    }
+
+    private static Set<UUID> idsOf(List<CreateTaskRequest> requests, Function<CreateTaskRequest, UUID> id) {
+        Set<UUID> ids = new HashSet<>();
+        for (CreateTaskRequest request : requests) {
+            UUID value = id.apply(request);
+            if (value != null) {
+                ids.add(value);
+            }
+        }
+        return ids;
+    }
+
+    private static void requireAll(String type, Set<UUID> requested, Set<UUID> existing) {
+        for (UUID id : requested) {
+            if (!existing.contains(id)) {
+                throw new ResourceNotFoundException(type + " not found with id: " + id);
+            }
+        }
     }
 
     @Transactional
@@ -100,13 +307,16 @@ public class TaskService {
             throw new ResourceNotFoundException("Task not found with id: " + taskId);
         }
 
-        if (!securityUtil.isTaskOwner(taskId) && !securityUtil.isAdmin()) {
+        if (!securityUtil.isAdmin() && !securityUtil.isTaskOwner(taskId)) {
             throw new AccessDeniedException("You are not allowed to perform this action.");
         }
 
+        TaskSnapshot before = TaskSnapshot.of(existingTask);
         taskMapper.updateEntity(existingTask, request);
         existingTask.setUpdatedAt(LocalDateTime.now());
-        return taskMapper.toResponse(taskRepository.save(existingTask));
+        Task saved = taskRepository.save(existingTask);
+        publishChanges(before, saved);
+        return taskMapper.toResponse(saved);
     }
 
     @Transactional
@@ -116,10 +326,11 @@ public class TaskService {
             throw new ResourceNotFoundException("Task not found with id: " + taskId);
         }
 
-        if (!securityUtil.isTaskOwner(taskId) && !securityUtil.isAdmin()) {
+        if (!securityUtil.isAdmin() && !securityUtil.isTaskOwner(taskId)) {
             throw new AccessDeniedException("You are not allowed to perform this action.");
         }
 
+        TaskSnapshot before = TaskSnapshot.of(existingTask);
         request.title().ifPresent(existingTask::setTitle);
         request.description().ifPresent(existingTask::setDescription);
         request.dueDate().ifPresent(existingTask::setDueDate);
@@ -127,7 +338,9 @@ public class TaskService {
         request.priority().ifPresent(existingTask::setPriority);
 
         existingTask.setUpdatedAt(LocalDateTime.now());
-        return taskMapper.toResponse(taskRepository.save(existingTask));
+        Task saved = taskRepository.save(existingTask);
+        publishChanges(before, saved);
+        return taskMapper.toResponse(saved);
     }
 
     @Transactional
@@ -137,16 +350,19 @@ public class TaskService {
             throw new ResourceNotFoundException("Task not found with id: " + id);
         }
 
-        boolean isOwner = securityUtil.isTaskOwner(id);
-        boolean isAdmin = securityUtil.isAdmin();
+        boolean isAdminOrManager = securityUtil.isAdminOrManager();
 
-        log.info("Security check - isOwner: {}, isAdmin: {}", isOwner, isAdmin);
+        log.info("Security check - isAdminOrManager: {}", isAdminOrManager);
 
-        if (securityUtil.isTaskOwner(id) && !securityUtil.isAdminOrManager()) {
+        if (!isAdminOrManager && securityUtil.isTaskOwner(id)) {
             throw new AccessDeniedException("You are not allowed to delete this task.");
         }
 
+        userService.moveTaskAssignment(assigneeIdOf(task), null);
+        TaskWorkload workload = TaskWorkload.of(task);
         taskRepository.deleteById(id);
+        eventPublisher.publishEvent(new TaskDeletedEvent(id, projectIdOf(task)));
+        eventPublisher.publishEvent(new TaskWorkloadChangedEvent(id, workload, null));
     }
 
     @Transactional
@@ -156,15 +372,22 @@ public class TaskService {
         }
 
         Task task = getTaskEntityById(taskId);
+        if (task == null) {
+            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        }
+        TaskSnapshot before = TaskSnapshot.of(task);
         User assignee = userService.getUserById(request.userId())
                 .orElseThrow(() -> new BadRequestException("User not found with ID: " + request.userId()));
 
         task.setAssignee(assignee);
+        securityUtil.evictTaskOwnership(taskId);
         task.setStatus(Status.valueOf(request.status().name()));
         task.setPriority(Priority.valueOf(request.priority().name()));
         task.setUpdatedAt(LocalDateTime.now());
 
-        return taskMapper.toResponse(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        publishChanges(before, saved);
+        return taskMapper.toResponse(saved);
     }
 
     public Task getTaskEntityById(UUID taskId) {
@@ -174,14 +397,24 @@ public class TaskService {
     @Transactional
     public void unassignAllTasksFromUser(UUID developerId) {
         taskRepository.unassignTasksFromUser(developerId);
+        userService.clearTaskCount(developerId);
+        eventPublisher.publishEvent(new TaskAssignmentEvent(null, null, developerId, null));
+        securityUtil.evictAllTaskOwnership();
     }
 
     public boolean existsById(UUID taskId) {
         return taskRepository.existsById(taskId);
     }
 
+    @Transactional
     public TaskResponse saveTask(Task entity) {
-        return taskMapper.toResponse(taskRepository.save(entity));
+        boolean isNew = entity.getId() == null;
+        Task saved = taskRepository.save(entity);
+        if (isNew) {
+            userService.moveTaskAssignment(null, assigneeIdOf(saved));
+            eventPublisher.publishEvent(new TaskWorkloadChangedEvent(saved.getId(), null, TaskWorkload.of(saved)));
+        }
+        return taskMapper.toResponse(saved);
     }
 
     /**
@@ -206,7 +439,9 @@ public class TaskService {
         if (!taskRepository.existsByProjectId(id)) {
             throw new ResourceNotFoundException("No tasks found for project with id: " + id);
         }
+        userService.releaseProjectTasks(id);
         taskRepository.deleteByProjectId(id);
+        eventPublisher.publishEvent(new TaskDeletedEvent(null, id));
     }
 
     public Page<TaskResponse> getOverdueTasks(Pageable pageable) {
@@ -223,50 +458,55 @@ public class TaskService {
         ).map(taskMapper::toResponse);
     }
 
-    @Scheduled(fixedDelayString = "${app.notifications.overdue-check-interval:300000}")
-    @Transactional
-    public void checkAndNotifyOverdueTasks() {
+    /**
+     * Keeps the assignees' task counts in step with the change and publishes the events
+     * describing it. Event listeners run after the transaction commits, e.g. to evict the task
+     * from the response cache.
+     */
+    private void publishChanges(TaskSnapshot before, Task after) {
+        UUID projectId = projectIdOf(after);
+        UUID assigneeId = assigneeIdOf(after);
 
-        LocalDate today = LocalDate.now();
-        Page<Task> overdueTasksPage;
-        int page = 0;
-        final int pageSize = 100;
-        int totalTasksProcessed = 0;
+        boolean critical = !Objects.equals(before.dueDate(), after.getDueDate())
+                || before.priority() != after.getPriority();
+        eventPublisher.publishEvent(new TaskUpdatedEvent(after.getId(), projectId, critical));
 
-        do {
-            overdueTasksPage = taskRepository.findOverdueTasks(
-                    today,
-                    PageRequest.of(page, pageSize)
-            );
+        if (before.status() != after.getStatus()) {
+            eventPublisher.publishEvent(new TaskStatusChangedEvent(
+                    after.getId(), projectId, before.status(), after.getStatus()));
+        }
+        if (!Objects.equals(before.assigneeId(), assigneeId)) {
+            userService.moveTaskAssignment(before.assigneeId(), assigneeId);
+            eventPublisher.publishEvent(new TaskAssignmentEvent(
+                    after.getId(), projectId, before.assigneeId(), assigneeId));
+        }
 
-            overdueTasksPage.getContent().forEach(this::checkAndNotifyIfOverdue);
-            page++;
-        } while (overdueTasksPage.hasNext());
+        TaskWorkload workload = TaskWorkload.of(after);
+        if (!workload.equals(before.workload())) {
+            eventPublisher.publishEvent(new TaskWorkloadChangedEvent(after.getId(), before.workload(), workload));
+        }
     }
 
-    public void checkAndNotifyIfOverdue(Task task) {
-        try {
-            LocalDate lastNotified = lastNotificationSent.get(task.getId());
-            LocalDate today = LocalDate.now();
-            log.info("Today: {}", today);
-            log.info("Task due date: {}", task.getDueDate());
-
-            if (lastNotified == null || lastNotified.isBefore(today)) {
-                log.info("PUBLISHING EVENT for task {} (Due: {}, Status: {})",
-                        task.getId(), task.getDueDate(), task.getStatus());
-
-                int daysOverdue = Math.toIntExact(ChronoUnit.DAYS.between(
-                        task.getDueDate(),
-                        today));
-                log.info("Days overdue: {}", daysOverdue);
-
-                eventPublisher.publishEvent(new TaskOverdueEvent(task, daysOverdue));
-                lastNotificationSent.put(task.getId(), today);
-            } else {
-                log.debug("Notification already sent today for task {}", task.getId());
-            }
-        } catch (Exception e) {
-            log.error("Failed to process task {}: {}", task.getId(), e.getMessage());
+    private static UUID projectIdOf(Task task) {
+        return task.getProject() != null ? task.getProject().getId() : null;
+    }
+
+    private static UUID assigneeIdOf(Task task) {
+        return task.getAssignee() != null ? task.getAssignee().getId() : null;
+    }
+
+    /**
+     * The fields of a task whose changes are published as events, captured before an update.
+     */
+    private record TaskSnapshot(Status status, Priority priority, LocalDate dueDate, UUID assigneeId,
+                                TaskWorkload workload) {
+        static TaskSnapshot of(Task task) {
+            return new TaskSnapshot(task.getStatus(), task.getPriority(), task.getDueDate(), assigneeIdOf(task),
+                    TaskWorkload.of(task));
         }
     }
+
+    public void checkAndNotifyIfOverdue(Task task) {
+        overdueTaskScanner.notifyIfOverdue(OverdueTaskView.of(task));
+    }
 }
@@ -4,14 +4,24 @@ import gtp.projecttracker.dto.response.user.UserResponse;
 import gtp.projecttracker.mapper.UserMapper;
 import gtp.projecttracker.model.jpa.User;
 import gtp.projecttracker.repository.jpa.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -19,13 +29,16 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
 
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
     @Autowired
     public UserService(UserRepository userRepository,   UserMapper userMapper) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
     }
 
-    @Cacheable("users")
+    // Not cached here: a no-argument key would be shared by every caller. The lookup goes
+    // through the email-keyed users cache on the repository instead.
     public User getCurrentUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         return userRepository.findByEmail(email)
@@ -44,4 +57,71 @@ public class UserService {
     public boolean existsById(UUID userId) {
         return userRepository.existsById(userId);
     }
+
+    /**
+     * Returns those of the given user IDs that exist, using a single query.
+     */
+    public Set<UUID> findExistingIds(Collection<UUID> userIds) {
+        return userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingIds(userIds));
+    }
+
+    /**
+     * Adds newly created tasks to their assignees' task counts with one update per assignee.
+     * Must run in the transaction that creates the tasks.
+     *
+     * @param tasksByAssignee Number of new tasks keyed by assignee ID
+     */
+    @Transactional
+    public void addTaskAssignments(Map<UUID, Integer> tasksByAssignee) {
+        tasksByAssignee.forEach(userRepository::adjustTaskCount);
+    }
+
+    /**
+     * Moves one task from one assignee's task count to another's. Either side may be null
+     * for a task that was or becomes unassigned. Must run in the transaction that changes the task.
+     */
+    @Transactional
+    public void moveTaskAssignment(UUID fromUserId, UUID toUserId) {
+        if (Objects.equals(fromUserId, toUserId)) {
+            return;
+        }
+        if (fromUserId != null) {
+            userRepository.adjustTaskCount(fromUserId, -1);
+        }
+        if (toUserId != null) {
+            userRepository.adjustTaskCount(toUserId, 1);
+        }
+    }
+
+    /**
+     * Resets a user's task count after all of their tasks were unassigned.
+     */
+    @Transactional
+    public void clearTaskCount(UUID userId) {
+        userRepository.resetTaskCount(userId);
+    }
+
+    /**
+     * Removes a project's tasks from their assignees' task counts. Must run before the tasks
+     * are deleted, in the same transaction.
+     */
+    @Transactional
+    public void releaseProjectTasks(UUID projectId) {
+        userRepository.subtractProjectTaskCounts(projectId);
+    }
+
+    /**
+     * Recomputes task counts that have drifted from the tasks table, e.g. after changes made
+     * outside the application. Also runs once at startup, which backfills the column when
+     * {@code ddl-auto} has just added it with a count of 0 for every existing user.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.users.task-count-reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public void reconcileTaskCounts() {
+        int corrected = userRepository.reconcileTaskCounts();
+        if (corrected > 0) {
+            log.warn("Corrected task counts of {} users", corrected);
+        }
+    }
 }
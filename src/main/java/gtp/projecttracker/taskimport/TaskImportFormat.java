@@ -0,0 +1,40 @@
+package gtp.projecttracker.taskimport;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Input formats accepted by the task import.
+ */
+public enum TaskImportFormat {
+    /** Comma-separated values with a header row naming the columns. */
+    CSV(MediaType.parseMediaType("text/csv")),
+    /** Newline-delimited JSON, one task object per line. */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"));
+
+    private final MediaType mediaType;
+
+    TaskImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Returns the format of a request body from its {@code Content-Type} header.
+     *
+     * @param contentType The request's content type, e.g. {@code text/csv;charset=UTF-8}
+     * @return The matching format
+     * @throws IllegalArgumentException if the content type is not an import format
+     */
+    public static TaskImportFormat fromContentType(String contentType) {
+        MediaType requested = MediaType.parseMediaType(contentType);
+        for (TaskImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(requested)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+    }
+}
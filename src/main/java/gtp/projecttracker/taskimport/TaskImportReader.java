@@ -0,0 +1,151 @@
+package gtp.projecttracker.taskimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the rows of a UTF-8 import body one at a time, so memory use does not depend on the
+ * size of the import.
+ * <p>
+ * A row whose values cannot be read is returned with an error and reading continues with the
+ * next row. Input that cannot be read past, such as an unterminated quoted CSV value, fails
+ * with an {@link IOException}.
+ * </p>
+ */
+public abstract class TaskImportReader implements Closeable {
+
+    /**
+     * A row read from the import.
+     *
+     * @param number The 1-based position of the row, not counting the CSV header or blank lines
+     * @param values The row's values, or null if it could not be read
+     * @param error Why the row could not be read, or null
+     */
+    public record Row(int number, TaskImportRow values, String error) {
+    }
+
+    private int rowNumber;
+
+    /**
+     * Opens a reader over an import body.
+     *
+     * @param in The request body
+     * @param format The format of the body
+     * @param objectMapper JSON mapper used for NDJSON rows
+     * @return A reader positioned before the first row
+     * @throws IOException if a CSV header cannot be read
+     */
+    public static TaskImportReader open(InputStream in, TaskImportFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        return switch (format) {
+            case CSV -> new CsvRows(reader);
+            case NDJSON -> new NdjsonRows(reader, objectMapper);
+        };
+    }
+
+    /**
+     * Reads the next row.
+     *
+     * @return The next row, or null at the end of the input
+     * @throws IOException if the input cannot be read any further
+     */
+    public abstract Row next() throws IOException;
+
+    Row row(TaskImportRow values) {
+        return new Row(++rowNumber, values, null);
+    }
+
+    Row error(String error) {
+        return new Row(++rowNumber, null, error);
+    }
+
+    /**
+     * CSV with a header row. Columns are matched to {@link TaskImportRow} by name; cells are
+     * trimmed, empty lines are skipped and cells beyond the header are ignored.
+     */
+    private static final class CsvRows extends TaskImportReader {
+        private static final ObjectReader ROW_READER = CsvMapper.builder()
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+                .build()
+                .readerFor(TaskImportRow.class)
+                .with(CsvSchema.emptySchema().withHeader());
+
+        private final MappingIterator<TaskImportRow> rows;
+
+        CsvRows(Reader reader) throws IOException {
+            this.rows = ROW_READER.readValues(reader);
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (!rows.hasNextValue()) {
+                return null;
+            }
+            try {
+                return row(rows.nextValue());
+            } catch (DatabindException e) {
+                // The iterator skips the rest of the record before the next read
+                return error(e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+    }
+
+    /**
+     * Newline-delimited JSON. Each line is parsed on its own, so a malformed line does not
+     * affect the lines after it. Blank lines are skipped.
+     */
+    private static final class NdjsonRows extends TaskImportReader {
+        private final BufferedReader reader;
+        private final ObjectReader rowReader;
+
+        NdjsonRows(Reader reader, ObjectMapper objectMapper) {
+            this.reader = new BufferedReader(reader);
+            this.rowReader = objectMapper.readerFor(TaskImportRow.class);
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            try {
+                TaskImportRow values = rowReader.readValue(line);
+                return values != null ? row(values) : error("Row is not a JSON object");
+            } catch (JsonProcessingException e) {
+                return error("Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
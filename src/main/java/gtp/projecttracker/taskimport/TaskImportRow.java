@@ -0,0 +1,94 @@
+package gtp.projecttracker.taskimport;
+
+import gtp.projecttracker.dto.request.task.CreateTaskRequest;
+import gtp.projecttracker.model.jpa.Task.Priority;
+import gtp.projecttracker.model.jpa.Task.Status;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * One task as read from an import, before conversion. All values are kept as text so that a
+ * malformed value is reported against its row instead of failing the parser. Blank values are
+ * treated as absent and unknown columns are ignored.
+ *
+ * @param title The task title
+ * @param description The task description
+ * @param dueDate The due date as {@code YYYY-MM-DD}
+ * @param projectId The ID of the project the task belongs to
+ * @param assigneeId The ID of the user the task is assigned to
+ * @param priority The priority name, {@code MEDIUM} if absent
+ * @param status The status name, {@code TODO} if absent
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TaskImportRow(
+        String title,
+        String description,
+        String dueDate,
+        String projectId,
+        String assigneeId,
+        String priority,
+        String status
+) {
+    /**
+     * Converts the row to a create request. Bean Validation constraints are not checked here.
+     *
+     * @return The create request for this row
+     * @throws IllegalArgumentException if a date, ID, priority or status cannot be parsed
+     */
+    public CreateTaskRequest toRequest() {
+        return new CreateTaskRequest(
+                blankToNull(title),
+                blankToNull(description),
+                parseDate(dueDate),
+                parseId("projectId", projectId),
+                parseId("assigneeId", assigneeId),
+                parseEnum("priority", priority, Priority.class),
+                parseEnum("status", status, Status.class));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static LocalDate parseDate(String value) {
+        String date = blankToNull(value);
+        if (date == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("dueDate: '" + date + "' is not a date in YYYY-MM-DD format");
+        }
+    }
+
+    private static UUID parseId(String column, String value) {
+        String id = blankToNull(value);
+        if (id == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + ": '" + id + "' is not a valid UUID");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(String column, String value, Class<E> type) {
+        String name = blankToNull(value);
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + ": '" + name + "' is not one of "
+                    + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+}
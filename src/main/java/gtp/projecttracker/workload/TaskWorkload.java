@@ -0,0 +1,30 @@
+package gtp.projecttracker.workload;
+
+import gtp.projecttracker.model.jpa.Task;
+import gtp.projecttracker.model.jpa.Task.Priority;
+import gtp.projecttracker.model.jpa.Task.Status;
+
+import java.util.UUID;
+
+/**
+ * The fields of a task that its contribution to the workload statistics depends on.
+ *
+ * @param assigneeId The assignee's ID, or null if the task is unassigned
+ * @param projectId The project's ID, or null if the task has no project
+ * @param status The task's status
+ * @param priority The task's priority
+ */
+public record TaskWorkload(
+        UUID assigneeId,
+        UUID projectId,
+        Status status,
+        Priority priority
+) {
+    public static TaskWorkload of(Task task) {
+        return new TaskWorkload(
+                task.getAssignee() != null ? task.getAssignee().getId() : null,
+                task.getProject() != null ? task.getProject().getId() : null,
+                task.getStatus(),
+                task.getPriority());
+    }
+}
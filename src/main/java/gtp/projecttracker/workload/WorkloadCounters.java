@@ -0,0 +1,63 @@
+package gtp.projecttracker.workload;
+
+import gtp.projecttracker.dto.response.workload.WorkloadResponse;
+import gtp.projecttracker.model.jpa.Task.Priority;
+import gtp.projecttracker.model.jpa.Task.Status;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free task counters of one user, project or the whole team, indexed by enum ordinal.
+ */
+final class WorkloadCounters {
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLongArray byStatus = new AtomicLongArray(STATUSES.length);
+    private final AtomicLongArray byPriority = new AtomicLongArray(PRIORITIES.length);
+
+    void add(Status status, Priority priority, long delta) {
+        total.addAndGet(delta);
+        if (status != null) {
+            byStatus.addAndGet(status.ordinal(), delta);
+        }
+        if (priority != null) {
+            byPriority.addAndGet(priority.ordinal(), delta);
+        }
+    }
+
+    void addAll(WorkloadCounters other) {
+        total.addAndGet(other.total.get());
+        for (int i = 0; i < STATUSES.length; i++) {
+            byStatus.addAndGet(i, other.byStatus.get(i));
+        }
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            byPriority.addAndGet(i, other.byPriority.get(i));
+        }
+    }
+
+    long total() {
+        return total.get();
+    }
+
+    long open() {
+        return total.get() - byStatus.get(Status.DONE.ordinal());
+    }
+
+    WorkloadResponse toResponse(UUID id) {
+        Map<Status, Long> statuses = new EnumMap<>(Status.class);
+        for (Status status : STATUSES) {
+            statuses.put(status, byStatus.get(status.ordinal()));
+        }
+        Map<Priority, Long> priorities = new EnumMap<>(Priority.class);
+        for (Priority priority : PRIORITIES) {
+            priorities.put(priority, byPriority.get(priority.ordinal()));
+        }
+        return new WorkloadResponse(id, total(), open(), statuses, priorities);
+    }
+}
@@ -0,0 +1,184 @@
+package gtp.projecttracker.workload;
+
+import gtp.projecttracker.dto.response.workload.TeamWorkloadResponse;
+import gtp.projecttracker.dto.response.workload.WorkloadResponse;
+import gtp.projecttracker.repository.jpa.TaskRepository;
+import gtp.projecttracker.repository.jpa.projection.TaskWorkloadCount;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user and per-project task counts by status and priority, served from memory.
+ * <p>
+ * The counts are rebuilt from one grouped query when the application is ready and then
+ * periodically, and kept current in between by applying each committed task change as a
+ * delta (see {@code WorkloadStatisticsListener}). Reads never touch the database, so they cost
+ * the same regardless of the size of the tasks table.
+ * </p>
+ * <p>
+ * A rebuild replaces the whole snapshot. A change committed while the grouped query runs may
+ * be counted twice or not at all until the next rebuild, so the counts are eventually
+ * consistent with the database.
+ * </p>
+ */
+@Component
+public class WorkloadStatistics {
+    private static final Logger log = LoggerFactory.getLogger(WorkloadStatistics.class);
+
+    private static final Comparator<WorkloadEntry> BY_OPEN_TASKS =
+            Comparator.comparingLong((WorkloadEntry entry) -> entry.counters().open())
+                    .thenComparingLong(entry -> entry.counters().total());
+
+    private final TaskRepository taskRepository;
+    private volatile Snapshot snapshot = new Snapshot(null);
+
+    public WorkloadStatistics(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeOnStartup() {
+        recompute();
+    }
+
+    /**
+     * Rebuilds the counts from the database.
+     */
+    @Scheduled(fixedDelayString = "${app.workload.recompute-interval:3600000}",
+            initialDelayString = "${app.workload.recompute-interval:3600000}")
+    public void recompute() {
+        long start = System.nanoTime();
+        Snapshot next = new Snapshot(LocalDateTime.now());
+        for (TaskWorkloadCount row : taskRepository.countTaskWorkloads()) {
+            next.add(new TaskWorkload(row.assigneeId(), row.projectId(), row.status(), row.priority()), row.count());
+        }
+        snapshot = next;
+        log.info("Recomputed workload statistics for {} users and {} projects in {} ms",
+                next.users.size(), next.projects.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Applies a committed change of one task.
+     *
+     * @param before The task's workload before the change, or null if it was created
+     * @param after The task's workload after the change, or null if it was deleted
+     */
+    public void apply(TaskWorkload before, TaskWorkload after) {
+        Snapshot current = snapshot;
+        if (before != null) {
+            current.add(before, -1);
+        }
+        if (after != null) {
+            current.add(after, 1);
+        }
+    }
+
+    /**
+     * Moves all tasks of a user to the unassigned counts.
+     *
+     * @param userId The ID of the user whose tasks were unassigned
+     */
+    public void unassignAll(UUID userId) {
+        snapshot.unassignAll(userId);
+    }
+
+    public TeamWorkloadResponse getTeamWorkload() {
+        Snapshot current = snapshot;
+        List<WorkloadResponse> members = current.users.entrySet().stream()
+                .map(entry -> new WorkloadEntry(entry.getKey(), entry.getValue()))
+                .filter(entry -> entry.counters().total() > 0)
+                .sorted(BY_OPEN_TASKS.reversed())
+                .map(WorkloadEntry::toResponse)
+                .toList();
+        return new TeamWorkloadResponse(
+                current.team.toResponse(null),
+                current.unassigned.toResponse(null),
+                members,
+                current.recomputedAt);
+    }
+
+    /**
+     * Returns the users with the most open tasks, most loaded first.
+     *
+     * @param limit The maximum number of users to return
+     * @return Up to {@code limit} users that have open tasks
+     */
+    public List<WorkloadResponse> getTopLoadedUsers(int limit) {
+        PriorityQueue<WorkloadEntry> top = new PriorityQueue<>(limit + 1, BY_OPEN_TASKS);
+        for (Map.Entry<UUID, WorkloadCounters> entry : snapshot.users.entrySet()) {
+            if (entry.getValue().open() > 0) {
+                top.add(new WorkloadEntry(entry.getKey(), entry.getValue()));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        List<WorkloadResponse> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().toResponse());
+        }
+        return result.reversed();
+    }
+
+    public WorkloadResponse getUserWorkload(UUID userId) {
+        return snapshot.users.getOrDefault(userId, new WorkloadCounters()).toResponse(userId);
+    }
+
+    public WorkloadResponse getProjectWorkload(UUID projectId) {
+        return snapshot.projects.getOrDefault(projectId, new WorkloadCounters()).toResponse(projectId);
+    }
+
+    private static final class Snapshot {
+        private final LocalDateTime recomputedAt;
+        private final WorkloadCounters team = new WorkloadCounters();
+        private final WorkloadCounters unassigned = new WorkloadCounters();
+        private final ConcurrentMap<UUID, WorkloadCounters> users = new ConcurrentHashMap<>();
+        private final ConcurrentMap<UUID, WorkloadCounters> projects = new ConcurrentHashMap<>();
+
+        private Snapshot(LocalDateTime recomputedAt) {
+            this.recomputedAt = recomputedAt;
+        }
+
+        private void add(TaskWorkload task, long delta) {
+            team.add(task.status(), task.priority(), delta);
+            WorkloadCounters assignee = task.assigneeId() != null
+                    ? users.computeIfAbsent(task.assigneeId(), id -> new WorkloadCounters())
+                    : unassigned;
+            assignee.add(task.status(), task.priority(), delta);
+            if (task.projectId() != null) {
+                projects.computeIfAbsent(task.projectId(), id -> new WorkloadCounters())
+                        .add(task.status(), task.priority(), delta);
+            }
+        }
+
+        private void unassignAll(UUID userId) {
+            WorkloadCounters removed = users.remove(userId);
+            if (removed != null) {
+                unassigned.addAll(removed);
+            }
+        }
+    }
+
+    private record WorkloadEntry(UUID id, WorkloadCounters counters) {
+        WorkloadResponse toResponse() {
+            return counters.toResponse(id);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package gtp.projecttracker.cache;
+
+import gtp.projecttracker.config.CacheConfig;
+import gtp.projecttracker.dto.response.task.TaskResponse;
+import gtp.projecttracker.event.TaskAssignmentEvent;
+import gtp.projecttracker.event.TaskDeletedEvent;
+import gtp.projecttracker.event.TaskUpdatedEvent;
+import gtp.projecttracker.listener.CacheEvictionListener;
+import gtp.projecttracker.security.jwt.JwtAuthenticationCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Updates, reassigns and deletes tasks in real transactions while other threads read them
+ * through {@link TaskResponseCache}. Evictions run in {@link CacheEvictionListener} after commit,
+ * exactly as in the application; every read that starts after a commit returned must see that
+ * commit or a later one.
+ */
+@SpringJUnitConfig(TaskResponseCacheConcurrencyTest.Config.class)
+class TaskResponseCacheConcurrencyTest {
+    private static final int TASKS = 64;
+    private static final int WRITERS = 2;
+    private static final int READERS = 6;
+    private static final int WRITES_PER_WRITER = 750;
+    private static final long DELETED = Long.MAX_VALUE;
+
+    @Autowired
+    private TaskResponseCache taskResponseCache;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<UUID> taskIds = new ArrayList<>();
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID[] assignees = {UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()};
+    // Highest version per task whose commit has returned to its writer, or DELETED
+    private final Map<UUID, AtomicLong> committed = new ConcurrentHashMap<>();
+    private final Queue<String> staleReads = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void createTasks() {
+        jdbcTemplate.update("DELETE FROM task");
+        taskResponseCache.clear();
+        for (int i = 0; i < TASKS; i++) {
+            UUID taskId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO task (id, version, assignee_id) VALUES (?, 0, ?)", taskId, assignees[0]);
+            taskIds.add(taskId);
+            committed.put(taskId, new AtomicLong());
+        }
+    }
+
+    @Test
+    void noStaleResponseIsServedAfterCommit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        List<Future<?>> readers = new ArrayList<>();
+        try {
+            for (int i = 0; i < WRITERS; i++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < WRITES_PER_WRITER; n++) {
+                        write(randomTask());
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < READERS; i++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        read(randomTask());
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(2, TimeUnit.MINUTES);
+            }
+            writing.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(staleReads).isEmpty();
+        // Once all writes have committed every cached entry must match the database
+        for (UUID taskId : taskIds) {
+            assertThat(taskResponseCache.get(taskId, () -> load(taskId))).isEqualTo(load(taskId));
+        }
+    }
+
+    private UUID randomTask() {
+        return taskIds.get(ThreadLocalRandom.current().nextInt(TASKS));
+    }
+
+    private void write(UUID taskId) {
+        int operation = ThreadLocalRandom.current().nextInt(100);
+        Long version = transactionTemplate.execute(status -> {
+            if (operation == 0) {
+                if (jdbcTemplate.update("DELETE FROM task WHERE id = ?", taskId) == 0) {
+                    return null;
+                }
+                eventPublisher.publishEvent(new TaskDeletedEvent(taskId, projectId));
+                return DELETED;
+            }
+
+            List<UUID> current = jdbcTemplate.queryForList(
+                    "SELECT assignee_id FROM task WHERE id = ? FOR UPDATE", UUID.class, taskId);
+            if (current.isEmpty()) {
+                return null;
+            }
+            if (operation < 50) {
+                UUID newAssignee = assignees[ThreadLocalRandom.current().nextInt(assignees.length)];
+                jdbcTemplate.update("UPDATE task SET version = version + 1, assignee_id = ? WHERE id = ?",
+                        newAssignee, taskId);
+                eventPublisher.publishEvent(new TaskAssignmentEvent(taskId, projectId, current.get(0), newAssignee));
+            } else {
+                jdbcTemplate.update("UPDATE task SET version = version + 1 WHERE id = ?", taskId);
+                eventPublisher.publishEvent(new TaskUpdatedEvent(taskId, projectId, false));
+            }
+            return jdbcTemplate.queryForObject("SELECT version FROM task WHERE id = ?", Long.class, taskId);
+        });
+
+        if (version != null) {
+            committed.get(taskId).accumulateAndGet(version, Math::max);
+        }
+    }
+
+    private void read(UUID taskId) {
+        long floor = committed.get(taskId).get();
+        TaskResponse response = taskResponseCache.get(taskId, () -> {
+            TaskResponse loaded = load(taskId);
+            // Hold the loaded state for a moment so commits and evictions land mid-load
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(50_000));
+            return loaded;
+        });
+
+        if (floor == DELETED) {
+            if (response != null) {
+                staleReads.add("task " + taskId + " was served after its deletion committed");
+            }
+        } else if (response != null && Long.parseLong(response.description()) < floor) {
+            staleReads.add("task " + taskId + " served version " + response.description()
+                    + " after version " + floor + " committed");
+        }
+    }
+
+    private TaskResponse load(UUID taskId) {
+        List<TaskResponse> rows = jdbcTemplate.query("SELECT version, assignee_id FROM task WHERE id = ?",
+                (rs, rowNum) -> new TaskResponse(taskId, "Task", String.valueOf(rs.getLong("version")),
+                        null, null, null, projectId, "Project",
+                        rs.getObject("assignee_id", UUID.class), "Assignee", null, null),
+                taskId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .build();
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE task (id UUID PRIMARY KEY, version BIGINT NOT NULL, assignee_id UUID)");
+            return jdbcTemplate;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+            return new TransactionTemplate(transactionManager);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.CACHE_TASKS, CacheConfig.CACHE_PROJECTS,
+                    CacheConfig.CACHE_PROJECT_LISTS);
+        }
+
+        @Bean
+        TaskResponseCache taskResponseCache(CacheManager cacheManager) {
+            return new TaskResponseCache(cacheManager);
+        }
+
+        @Bean
+        CacheEvictionListener cacheEvictionListener(CacheManager cacheManager, TaskResponseCache taskResponseCache) {
+            return new CacheEvictionListener(cacheManager, mock(JwtAuthenticationCache.class), taskResponseCache);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package gtp.projecttracker.config;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import gtp.projecttracker.dto.response.project.ProjectResponse;
+import gtp.projecttracker.mapper.ProjectMapper;
+import gtp.projecttracker.mapper.TaskMapper;
+import gtp.projecttracker.model.jpa.Project.ProjectStatus;
+import gtp.projecttracker.model.jpa.User;
+import gtp.projecttracker.repository.jpa.ProjectRepository;
+import gtp.projecttracker.repository.jpa.TaskRepository;
+import gtp.projecttracker.repository.jpa.UserRepository;
+import gtp.projecttracker.repository.jpa.projection.ProjectTaskSummary;
+import gtp.projecttracker.security.service.UserDetailsServiceImpl;
+import gtp.projecttracker.service.ProjectService;
+import gtp.projecttracker.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.AopTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Boots {@link CacheConfig} with the cache specs from {@code application.properties} and drives
+ * the {@code users}, {@code userDetails} and {@code projects} caches through the real annotated
+ * beans, reading Caffeine's {@code recordStats()} counters to check hits and misses.
+ */
+@SpringJUnitConfig(CacheConfigTest.Config.class)
+@TestPropertySource(locations = "classpath:application.properties")
+class CacheConfigTest {
+    private static final String EMAIL = "ada@example.com";
+
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private CacheSpecProperties cacheSpecProperties;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserDetailsService userDetailsService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private UserRepository userRepositoryMock;
+
+    @BeforeEach
+    void clearCaches() {
+        CacheConfig.CACHE_NAMES.forEach(name -> cacheManager.getCache(name).clear());
+        // The bean is a caching proxy; stubs and verifications go to the mock behind it
+        userRepositoryMock = AopTestUtils.getUltimateTargetObject(userRepository);
+        clearInvocations(userRepositoryMock, projectRepository);
+    }
+
+    @Test
+    void cachesUseTheirConfiguredSpec() {
+        assertThat(cacheSpecProperties.specs()).containsKeys(
+                CacheConfig.CACHE_USERS, CacheConfig.CACHE_USER_DETAILS, CacheConfig.CACHE_PROJECTS);
+
+        assertSpec(CacheConfig.CACHE_USERS, 10_000, Duration.ofMinutes(10));
+        assertSpec(CacheConfig.CACHE_USER_DETAILS, 10_000, Duration.ofMinutes(10));
+        assertSpec(CacheConfig.CACHE_PROJECTS, 5_000, Duration.ofMinutes(5));
+        assertSpec(CacheConfig.CACHE_PROJECT_LISTS, 100, Duration.ofMinutes(1));
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrderElementsOf(CacheConfig.CACHE_NAMES);
+    }
+
+    @Test
+    void usersCacheRecordsHitsAndSkipsMissingUsers() {
+        User user = new User("Ada", EMAIL, "secret", User.Role.ROLE_DEVELOPER);
+        when(userRepositoryMock.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userRepositoryMock.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+        CacheStats before = stats(CacheConfig.CACHE_USERS);
+
+        assertThat(userRepository.findByEmail(EMAIL)).contains(user);
+        assertThat(userRepository.findByEmail(EMAIL)).contains(user);
+        assertThat(userRepository.findByEmail("nobody@example.com")).isEmpty();
+        assertThat(userRepository.findByEmail("nobody@example.com")).isEmpty();
+
+        CacheStats delta = stats(CacheConfig.CACHE_USERS).minus(before);
+        assertThat(delta.hitCount()).isEqualTo(1);
+        assertThat(delta.missCount()).isEqualTo(3);
+        verify(userRepositoryMock, times(1)).findByEmail(EMAIL);
+        // Missing users are not cached, so each lookup reaches the repository
+        verify(userRepositoryMock, times(2)).findByEmail("nobody@example.com");
+
+        // Saving a user evicts its entry
+        userRepository.save(user);
+        assertThat(userRepository.findByEmail(EMAIL)).contains(user);
+        assertThat(stats(CacheConfig.CACHE_USERS).minus(before).missCount()).isEqualTo(4);
+    }
+
+    @Test
+    void userDetailsCacheRecordsHits() {
+        User user = new User("Ada", EMAIL, "secret", User.Role.ROLE_DEVELOPER);
+        when(userRepositoryMock.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        CacheStats before = stats(CacheConfig.CACHE_USER_DETAILS);
+
+        assertThat(userDetailsService.loadUserByUsername(EMAIL).getUsername()).isEqualTo(EMAIL);
+        assertThat(userDetailsService.loadUserByUsername(EMAIL).getUsername()).isEqualTo(EMAIL);
+        assertThat(userDetailsService.loadUserByUsername(EMAIL).getUsername()).isEqualTo(EMAIL);
+
+        CacheStats delta = stats(CacheConfig.CACHE_USER_DETAILS).minus(before);
+        assertThat(delta.hitCount()).isEqualTo(2);
+        assertThat(delta.missCount()).isEqualTo(1);
+        verify(userRepositoryMock, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void projectsCacheRecordsHitsPerProject() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(projectRepository.findTaskSummaryById(first)).thenReturn(Optional.of(summary(first)));
+        when(projectRepository.findTaskSummaryById(second)).thenReturn(Optional.of(summary(second)));
+        CacheStats before = stats(CacheConfig.CACHE_PROJECTS);
+
+        ProjectResponse response = projectService.getProjectById(first);
+        assertThat(projectService.getProjectById(first)).isEqualTo(response);
+        assertThat(projectService.getProjectById(first)).isEqualTo(response);
+        assertThat(projectService.getProjectById(second).id()).isEqualTo(second);
+
+        CacheStats delta = stats(CacheConfig.CACHE_PROJECTS).minus(before);
+        assertThat(delta.hitCount()).isEqualTo(2);
+        assertThat(delta.missCount()).isEqualTo(2);
+        assertThat(delta.hitRate()).isEqualTo(0.5);
+        verify(projectRepository, times(1)).findTaskSummaryById(first);
+        verify(projectRepository, times(1)).findTaskSummaryById(second);
+    }
+
+    private void assertSpec(String cacheName, long maximumSize, Duration expireAfterWrite) {
+        Policy<Object, Object> policy = nativeCache(cacheName).policy();
+        assertThat(policy.eviction()).as("%s eviction", cacheName)
+                .hasValueSatisfying(eviction -> assertThat(eviction.getMaximum()).isEqualTo(maximumSize));
+        assertThat(policy.expireAfterWrite()).as("%s expireAfterWrite", cacheName)
+                .hasValueSatisfying(expiration -> assertThat(expiration.getExpiresAfter()).isEqualTo(expireAfterWrite));
+        assertThat(policy.isRecordingStats()).as("%s recordStats", cacheName).isTrue();
+    }
+
+    private CacheStats stats(String cacheName) {
+        return nativeCache(cacheName).stats();
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String cacheName) {
+        return ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache();
+    }
+
+    private static ProjectTaskSummary summary(UUID id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ProjectTaskSummary(id, "Project " + id, null, null, null, ProjectStatus.ACTIVE,
+                now, now, 3, 1, 0, 0, 1, 1, 0);
+    }
+
+    @Configuration
+    @Import(CacheConfig.class)
+    @EnableConfigurationProperties(CacheSpecProperties.class)
+    static class Config {
+        @Bean
+        UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
+        @Bean
+        UserDetailsServiceImpl userDetailsService(UserRepository userRepository) {
+            return new UserDetailsServiceImpl(userRepository);
+        }
+
+        @Bean
+        ProjectRepository projectRepository() {
+            return mock(ProjectRepository.class);
+        }
+
+        @Bean
+        ProjectService projectService(ProjectRepository projectRepository) {
+            return new ProjectService(projectRepository, new ProjectMapper(), mock(TaskRepository.class),
+                    mock(TaskService.class), mock(TaskMapper.class), mock(ApplicationEventPublisher.class));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package gtp.projecttracker.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryNotificationLedgerTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    private final InMemoryNotificationLedger ledger = new InMemoryNotificationLedger();
+
+    @Test
+    void releasedClaimsCanBeClaimedAgainWithoutDisturbingOthers() {
+        // Enough entries to grow the table and produce long probe runs
+        List<UUID> taskIds = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            UUID taskId = UUID.randomUUID();
+            taskIds.add(taskId);
+            assertThat(ledger.tryClaim(taskId, TODAY)).isTrue();
+        }
+
+        for (int i = 0; i < taskIds.size(); i += 2) {
+            ledger.release(taskIds.get(i), TODAY);
+        }
+
+        for (int i = 0; i < taskIds.size(); i++) {
+            boolean released = i % 2 == 0;
+            assertThat(ledger.tryClaim(taskIds.get(i), TODAY)).as("task %d", i).isEqualTo(released);
+        }
+    }
+
+    @Test
+    void releaseForAnotherDayKeepsTheClaim() {
+        UUID taskId = UUID.randomUUID();
+        assertThat(ledger.tryClaim(taskId, TODAY)).isTrue();
+
+        ledger.release(taskId, TODAY.minusDays(1));
+        ledger.release(UUID.randomUUID(), TODAY);
+
+        assertThat(ledger.tryClaim(taskId, TODAY)).isFalse();
+    }
+
+    @Test
+    void releasesTheAllZeroTaskId() {
+        UUID zero = new UUID(0, 0);
+        assertThat(ledger.tryClaim(zero, TODAY)).isTrue();
+
+        ledger.release(zero, TODAY);
+
+        assertThat(ledger.tryClaim(zero, TODAY)).isTrue();
+    }
+}
@@ -0,0 +1,206 @@
+package gtp.projecttracker.notification;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import gtp.projecttracker.config.EmailProperties;
+import gtp.projecttracker.config.NotificationProperties;
+import gtp.projecttracker.event.TaskOverdueEvent;
+import gtp.projecttracker.repository.jpa.projection.OverdueTaskView;
+import gtp.projecttracker.service.EmailServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the dispatcher against an in-process GreenMail SMTP server.
+ */
+class NotificationDispatcherTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+    private static final long MAIL_TIMEOUT_MS = 5_000;
+
+    private GreenMail greenMail;
+    private InMemoryNotificationLedger ledger;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        greenMail.start();
+        ledger = new InMemoryNotificationLedger();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+        greenMail.stop();
+    }
+
+    @Test
+    void sendsOneDigestPerRecipient() throws Exception {
+        startDispatcher(Duration.ofMillis(200), 50);
+
+        dispatcher.submit(claimedEvent("alice@example.com", "Write release notes", 1));
+        dispatcher.submit(claimedEvent("bob@example.com", "Fix login redirect", 2));
+        dispatcher.submit(claimedEvent("alice@example.com", "Review schema change", 3));
+        dispatcher.submit(claimedEvent("alice@example.com", "Rotate API keys", 4));
+
+        assertThat(greenMail.waitForIncomingEmail(MAIL_TIMEOUT_MS, 2)).isTrue();
+        dispatcher.stop();
+
+        Map<String, MimeMessage> byRecipient = receivedByRecipient();
+        assertThat(byRecipient).containsOnlyKeys("alice@example.com", "bob@example.com");
+
+        MimeMessage alice = byRecipient.get("alice@example.com");
+        assertThat(alice.getSubject()).isEqualTo("3 Tasks Overdue");
+        assertThat(text(alice)).contains("Write release notes", "Review schema change", "Rotate API keys")
+                .doesNotContain("Fix login redirect");
+
+        MimeMessage bob = byRecipient.get("bob@example.com");
+        assertThat(bob.getSubject()).isEqualTo("Task Overdue: Fix login redirect (2 days)");
+        assertThat(text(bob)).contains("Fix login redirect").doesNotContain("Rotate API keys");
+
+        assertThat(meterRegistry.get("notification.digest.size").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.digest.size").summary().max()).isEqualTo(3);
+    }
+
+    @Test
+    void sendsEmailsInBatchesOfConfiguredSize() throws Exception {
+        startDispatcher(Duration.ofMillis(200), 2);
+
+        for (int i = 1; i <= 5; i++) {
+            dispatcher.submit(claimedEvent("user" + i + "@example.com", "Task " + i, i));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(MAIL_TIMEOUT_MS, 5)).isTrue();
+        dispatcher.stop();
+
+        assertThat(receivedByRecipient()).hasSize(5);
+        assertThat(meterRegistry.get("notification.batch.latency").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.emails.sent").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("notification.emails.failed").counter().count()).isZero();
+    }
+
+    @Test
+    void stopSendsDigestsStillInsideTheirWindow() throws Exception {
+        startDispatcher(Duration.ofMinutes(10), 50);
+        TaskOverdueEvent first = claimedEvent("alice@example.com", "Write release notes", 1);
+        TaskOverdueEvent second = claimedEvent("alice@example.com", "Rotate API keys", 2);
+
+        dispatcher.submit(first);
+        dispatcher.submit(second);
+        dispatcher.stop();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("2 Tasks Overdue");
+        // Sent notifications keep their claim
+        assertThat(ledger.tryClaim(first.task().taskId(), TODAY)).isFalse();
+        assertThat(ledger.tryClaim(second.task().taskId(), TODAY)).isFalse();
+    }
+
+    @Test
+    void emailsRejectedOnEveryAttemptReleaseTheirClaim() throws Exception {
+        startDispatcher(Duration.ofMillis(50), 50);
+        greenMail.stop();
+
+        TaskOverdueEvent event = claimedEvent("alice@example.com", "Write release notes", 1);
+        dispatcher.submit(event);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAIL_TIMEOUT_MS);
+        while (meterRegistry.get("notification.emails.failed").counter().count() == 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        dispatcher.stop();
+
+        assertThat(meterRegistry.get("notification.emails.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.emails.retried").counter().count()).isEqualTo(2);
+        // The next scan can claim and send it again
+        assertThat(ledger.tryClaim(event.task().taskId(), TODAY)).isTrue();
+    }
+
+    @Test
+    void eventsSubmittedAfterStopReleaseTheirClaim() {
+        startDispatcher(Duration.ofMillis(200), 50);
+        dispatcher.stop();
+
+        TaskOverdueEvent event = claimedEvent("alice@example.com", "Write release notes", 1);
+        dispatcher.submit(event);
+
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+        assertThat(ledger.tryClaim(event.task().taskId(), TODAY)).isTrue();
+    }
+
+    private void startDispatcher(Duration digestWindow, int batchSize) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(greenMail.getSmtp().getBindTo());
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        EmailTemplateRenderer templateRenderer = new EmailTemplateRenderer(templateEngine);
+
+        EmailServiceImpl emailService = new EmailServiceImpl(mailSender, templateRenderer,
+                new EmailProperties("tracker@example.com", null, ""));
+        // No rate limit and a short back-off keep the test fast
+        NotificationProperties properties = new NotificationProperties(
+                100, digestWindow, batchSize, 0, 3, Duration.ofMillis(10));
+
+        dispatcher = new NotificationDispatcher(emailService, templateRenderer, ledger, properties, meterRegistry);
+        dispatcher.start();
+    }
+
+    private TaskOverdueEvent claimedEvent(String assigneeEmail, String title, int daysOverdue) {
+        OverdueTaskView task = new OverdueTaskView(UUID.randomUUID(), title, TODAY.minusDays(daysOverdue),
+                assigneeEmail, "Assignee " + assigneeEmail, "Project Tracker");
+        assertThat(ledger.tryClaim(task.taskId(), TODAY)).isTrue();
+        return new TaskOverdueEvent(task, daysOverdue, TODAY);
+    }
+
+    private Map<String, MimeMessage> receivedByRecipient() throws Exception {
+        Map<String, MimeMessage> byRecipient = new HashMap<>();
+        for (MimeMessage message : greenMail.getReceivedMessages()) {
+            String recipient = message.getAllRecipients()[0].toString();
+            assertThat(byRecipient.put(recipient, message)).as("second email to %s", recipient).isNull();
+        }
+        return byRecipient;
+    }
+
+    private static String text(Part part) throws Exception {
+        Object content = part.getContent();
+        if (content instanceof Multipart multipart) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < multipart.getCount(); i++) {
+                text.append(text(multipart.getBodyPart(i)));
+            }
+            return text.toString();
+        }
+        return content instanceof String string ? string : "";
+    }
+}
@@ -0,0 +1,57 @@
+package gtp.projecttracker.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenVersionRegistryTest {
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void logoutRevokesEarlierTokensButNotTheNextLogin() {
+        TokenVersionRegistry registry = new TokenVersionRegistry();
+        long firstLogin = registry.currentVersion(userId);
+        assertThat(registry.isCurrent(userId, firstLogin)).isTrue();
+
+        registry.revoke(userId);
+        long secondLogin = registry.currentVersion(userId);
+
+        assertThat(registry.isCurrent(userId, firstLogin)).isFalse();
+        assertThat(registry.isCurrent(userId, secondLogin)).isTrue();
+    }
+
+    @Test
+    void tokenIssuedAfterLogoutSurvivesRestart() {
+        TokenVersionRegistry beforeRestart = new TokenVersionRegistry();
+        beforeRestart.revoke(userId);
+        long reLogin = beforeRestart.currentVersion(userId);
+        assertThat(reLogin).isEqualTo(1);
+
+        // A restarted instance, or another instance, starts every user at version 0
+        TokenVersionRegistry afterRestart = new TokenVersionRegistry();
+
+        assertThat(afterRestart.isCurrent(userId, reLogin)).isTrue();
+    }
+
+    @Test
+    void repeatedLogoutKeepsRefusingOlderTokens() {
+        TokenVersionRegistry registry = new TokenVersionRegistry();
+        long issued = registry.currentVersion(userId);
+
+        registry.revoke(userId);
+        registry.revoke(userId);
+
+        assertThat(registry.isCurrent(userId, issued)).isFalse();
+        assertThat(registry.isCurrent(userId, registry.currentVersion(userId))).isTrue();
+    }
+
+    @Test
+    void usersWithoutRevocationsAcceptTheirTokens() {
+        TokenVersionRegistry registry = new TokenVersionRegistry();
+        registry.revoke(UUID.randomUUID());
+
+        assertThat(registry.isCurrent(userId, 0)).isTrue();
+    }
+}